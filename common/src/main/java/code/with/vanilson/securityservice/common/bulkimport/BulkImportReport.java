@@ -0,0 +1,43 @@
+package code.with.vanilson.securityservice.common.bulkimport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The per-row report of a bulk import, returned as the response body by both services.
+ */
+public final class BulkImportReport {
+    private long total;
+    private long imported;
+    private long failed;
+    private final List<BulkImportResult> results = new ArrayList<>();
+
+    public void created(long row, int employeeId) {
+        total++;
+        imported++;
+        results.add(BulkImportResult.created(row, employeeId));
+    }
+
+    public void failed(long row, String error) {
+        total++;
+        failed++;
+        results.add(BulkImportResult.failed(row, error));
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<BulkImportResult> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+}
@@ -0,0 +1,47 @@
+package code.with.vanilson.securityservice.common.bulkimport;
+
+/**
+ * The outcome of one submitted row: the ID of the created employee, or the reason the row failed.
+ */
+public final class BulkImportResult {
+    private final long row; // 1-based position of the row in the submitted payload
+    private final Status status;
+    private final Integer employeeId;
+    private final String error;
+
+    private BulkImportResult(long row, Status status, Integer employeeId, String error) {
+        this.row = row;
+        this.status = status;
+        this.employeeId = employeeId;
+        this.error = error;
+    }
+
+    static BulkImportResult created(long row, int employeeId) {
+        return new BulkImportResult(row, Status.CREATED, employeeId, null);
+    }
+
+    static BulkImportResult failed(long row, String error) {
+        return new BulkImportResult(row, Status.FAILED, null, error);
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+}
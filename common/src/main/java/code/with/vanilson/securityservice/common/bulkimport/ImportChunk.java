@@ -0,0 +1,94 @@
+package code.with.vanilson.securityservice.common.bulkimport;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One chunk of a bulk import and the reason each of its failed rows failed.
+ * <p>
+ * Both services drive it the same way: construct it (which fails unparseable and invalid rows), look up the
+ * {@link #candidateValues(Function) values} of each unique column in the database and pass them to
+ * {@link #rejectDuplicates(String, Function, Set)}, insert the remaining {@link #candidates()} (calling
+ * {@link #reject(ImportRow, String)} for any the database refuses), then {@link #report(Map, BulkImportReport)}.
+ *
+ * @param <T> the parsed value type
+ */
+public final class ImportChunk<T> {
+    private final List<ImportRow<T>> rows;
+    private final Map<ImportRow<T>, String> errors = new HashMap<>();
+
+    /**
+     * @param rows      the rows of the chunk, in submission order; copied
+     * @param validator returns why a parsed value is invalid, or {@code null} if it is valid
+     */
+    public ImportChunk(List<ImportRow<T>> rows, Function<T, String> validator) {
+        this.rows = List.copyOf(rows);
+        for (ImportRow<T> row : this.rows) {
+            String error = row.parseError() != null ? row.parseError() : validator.apply(row.value());
+            if (error != null) {
+                errors.put(row, error);
+            }
+        }
+    }
+
+    /**
+     * @return the rows that have not failed so far, in submission order
+     */
+    public List<ImportRow<T>> candidates() {
+        return rows.stream().filter(row -> !errors.containsKey(row)).toList();
+    }
+
+    /**
+     * @param column reads a unique column from a value
+     * @return the distinct values of that column over the {@link #candidates()}
+     */
+    public Set<String> candidateValues(Function<T, String> column) {
+        return candidates().stream().map(row -> column.apply(row.value())).collect(Collectors.toSet());
+    }
+
+    /**
+     * Fails each candidate whose value in a unique column already exists or was taken by an earlier candidate of
+     * this chunk. Call it once per unique column; a row rejected for one column is not checked against the next.
+     *
+     * @param label    the column name used in the error, e.g. {@code Username}
+     * @param column   reads the column from a value
+     * @param existing the values of the column that are already stored
+     */
+    public void rejectDuplicates(String label, Function<T, String> column, Set<String> existing) {
+        Set<String> seen = new HashSet<>();
+        for (ImportRow<T> row : candidates()) {
+            String value = column.apply(row.value());
+            if (existing.contains(value) || !seen.add(value)) {
+                errors.put(row, label + " already exists: " + value);
+            }
+        }
+    }
+
+    /**
+     * Fails a candidate the database refused.
+     */
+    public void reject(ImportRow<T> row, String error) {
+        errors.put(row, error);
+    }
+
+    /**
+     * Adds one result per row to the report, in submission order.
+     *
+     * @param savedIds the IDs of the inserted rows
+     * @param report   the report of the whole import
+     */
+    public void report(Map<ImportRow<T>, Integer> savedIds, BulkImportReport report) {
+        for (ImportRow<T> row : rows) {
+            if (savedIds.containsKey(row)) {
+                report.created(row.number(), savedIds.get(row));
+            } else {
+                report.failed(row.number(), errors.get(row));
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package code.with.vanilson.securityservice.common.bulkimport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A submitted row: either a parsed value or the reason it could not be parsed. Compared by identity, since two
+ * rows may carry equal values.
+ *
+ * @param <T> the parsed value type
+ */
+public final class ImportRow<T> {
+    private final long number;
+    private final T value;
+    private final String parseError;
+
+    private ImportRow(long number, T value, String parseError) {
+        this.number = number;
+        this.value = value;
+        this.parseError = parseError;
+    }
+
+    /**
+     * @param number the 1-based position of the row in the body
+     * @param value  the parsed value, possibly {@code null} for an explicit null element
+     * @return a parsed row, still to be validated
+     */
+    public static <T> ImportRow<T> parsed(long number, T value) {
+        return new ImportRow<>(number, value, null);
+    }
+
+    /**
+     * @param number the 1-based position of the row in the body
+     * @param error  why the row could not be parsed
+     * @return a row that fails with {@code error}
+     */
+    public static <T> ImportRow<T> unparseable(long number, String error) {
+        return new ImportRow<>(number, null, error);
+    }
+
+    /**
+     * Parses one CSV line of the {@code CsvFormat} dialect.
+     *
+     * @param number        the 1-based position of the row in the body, header excluded
+     * @param values        the values of the line
+     * @param columnIndexes for each expected column, its index in the line, as read from the header
+     * @param mapper        builds the value from the line's values in expected column order
+     * @return the parsed row, or a failing one if the line does not have one value per column
+     */
+    public static <T> ImportRow<T> fromCsv(long number, List<String> values, int[] columnIndexes,
+                                           Function<List<String>, T> mapper) {
+        if (values.size() != columnIndexes.length) {
+            return unparseable(number, "Expected " + columnIndexes.length + " columns but found " + values.size());
+        }
+        List<String> ordered = new ArrayList<>(columnIndexes.length);
+        for (int index : columnIndexes) {
+            ordered.add(values.get(index));
+        }
+        return parsed(number, mapper.apply(ordered));
+    }
+
+    public long number() {
+        return number;
+    }
+
+    public T value() {
+        return value;
+    }
+
+    public String parseError() {
+        return parseError;
+    }
+}
@@ -0,0 +1,10 @@
+package code.with.vanilson.securityservice.common.bulkimport;
+
+/**
+ * Thrown when a bulk import body cannot be read as rows at all; each service maps it to its own error response.
+ */
+public class InvalidImportPayloadException extends RuntimeException {
+    public InvalidImportPayloadException(String message) {
+        super(message);
+    }
+}
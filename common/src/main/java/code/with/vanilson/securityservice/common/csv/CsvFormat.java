@@ -0,0 +1,59 @@
+package code.with.vanilson.securityservice.common.csv;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The CSV dialect accepted by the bulk imports: comma-separated values, trimmed, optionally wrapped in double
+ * quotes (which may not contain commas), with a header line naming the columns in any order.
+ */
+public final class CsvFormat {
+
+    private CsvFormat() {
+    }
+
+    /**
+     * @param line one line of the body
+     * @return its values, trimmed and unquoted; empty values are {@code null}
+     */
+    public static List<String> splitLine(String line) {
+        String[] values = line.split(",", -1);
+        List<String> result = new ArrayList<>(values.length);
+        for (String value : values) {
+            String trimmed = value.trim();
+            if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+                trimmed = trimmed.substring(1, trimmed.length() - 1);
+            }
+            result.add(trimmed.isEmpty() ? null : trimmed);
+        }
+        return result;
+    }
+
+    /**
+     * Maps the expected columns to their positions in a header line, ignoring case.
+     *
+     * @param header  the values of the header line
+     * @param columns the expected column names
+     * @return for each expected column, its index in the header
+     * @throws IllegalArgumentException if the header does not name exactly the expected columns
+     */
+    public static int[] columnIndexes(List<String> header, List<String> columns) {
+        if (header.size() != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " columns but found " + header.size());
+        }
+        int[] indexes = new int[columns.size()];
+        for (int column = 0; column < columns.size(); column++) {
+            int index = -1;
+            for (int i = 0; i < header.size(); i++) {
+                if (columns.get(column).equalsIgnoreCase(header.get(i))) {
+                    index = i;
+                }
+            }
+            if (index < 0) {
+                throw new IllegalArgumentException("Missing column " + columns.get(column));
+            }
+            indexes[column] = index;
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,33 @@
+package code.with.vanilson.securityservice.common.pagination;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is opaque to clients and is {@code null}
+ * on the last page.
+ *
+ * @param <T> the item type
+ */
+public final class CursorPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final int size;
+
+    public CursorPage(List<T> items, String nextCursor, int size) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,11 @@
+package code.with.vanilson.securityservice.common.pagination;
+
+/**
+ * Thrown by {@link KeysetPageRequest} for a malformed cursor, size or direction; each service maps it to its own
+ * error response.
+ */
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,115 @@
+package code.with.vanilson.securityservice.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A request for one page of a listing ordered by its primary key. Pages are addressed by the key of the last
+ * row already returned rather than by an offset, so every page costs one index range scan regardless of depth.
+ * <p>
+ * The cursor handed to clients is a {@link PageCursor}; clients must treat it as opaque. Each service turns
+ * {@link #isAscending()} and {@link #fetchSize()} into its own repository query.
+ */
+public final class KeysetPageRequest {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final boolean ascending;
+    private final Long afterKey;
+    private final int size;
+
+    private KeysetPageRequest(boolean ascending, Long afterKey, int size) {
+        this.ascending = ascending;
+        this.afterKey = afterKey;
+        this.size = size;
+    }
+
+    /**
+     * Builds a page request from raw request parameters.
+     *
+     * @param cursor    the cursor returned with the previous page, or {@code null} for the first page
+     * @param size      the requested page size, capped at {@link #MAX_PAGE_SIZE}; {@code null} for the default
+     * @param direction {@code asc} or {@code desc}; ignored when a cursor is given, since the cursor carries it
+     * @return the page request
+     * @throws InvalidPageRequestException if the cursor, size or direction is malformed
+     */
+    public static KeysetPageRequest of(String cursor, Integer size, String direction) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        if (pageSize < 1) {
+            throw new InvalidPageRequestException("Page size must be positive");
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return new KeysetPageRequest(parseDirection(direction), null, pageSize);
+        }
+        PageCursor pageCursor;
+        try {
+            pageCursor = PageCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException("Invalid cursor");
+        }
+        return new KeysetPageRequest(pageCursor.ascending(), pageCursor.lastKey(), pageSize);
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * @return the number of rows to fetch: one more than the page size, to detect a next page
+     */
+    public int fetchSize() {
+        return size + 1;
+    }
+
+    /**
+     * @param firstPageKey the key to start from when no cursor was given
+     * @return the exclusive key bound of this page
+     */
+    public long afterKey(long firstPageKey) {
+        return afterKey == null ? firstPageKey : afterKey;
+    }
+
+    /**
+     * {@link #afterKey(long)} for listings keyed by an {@code int}.
+     *
+     * @param firstPageKey the key to start from when no cursor was given
+     * @return the exclusive key bound of this page
+     * @throws InvalidPageRequestException if the cursor's key is outside the {@code int} range
+     */
+    public int intAfterKey(int firstPageKey) {
+        long key = afterKey(firstPageKey);
+        if (key < Integer.MIN_VALUE || key > Integer.MAX_VALUE) {
+            throw new InvalidPageRequestException("Invalid cursor");
+        }
+        return (int) key;
+    }
+
+    /**
+     * Turns the rows fetched with {@link #fetchSize()} into a page with its next cursor.
+     *
+     * @param rows         the fetched rows, at most one more than the page size
+     * @param mapper       maps each row to the item returned to clients
+     * @param keyExtractor reads the primary key of a row
+     * @return the page
+     */
+    public <E, T> CursorPage<T> toPage(List<E> rows, Function<E, T> mapper, ToLongFunction<E> keyExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? new PageCursor(ascending, keyExtractor.applyAsLong(pageRows.get(pageRows.size() - 1))).encode()
+                : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), nextCursor, size);
+    }
+
+    private static boolean parseDirection(String direction) {
+        if (direction == null || direction.isBlank() || direction.equalsIgnoreCase("asc")) {
+            return true;
+        }
+        if (direction.equalsIgnoreCase("desc")) {
+            return false;
+        }
+        throw new InvalidPageRequestException("Sort direction must be asc or desc");
+    }
+}
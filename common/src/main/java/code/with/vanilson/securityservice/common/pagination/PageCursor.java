@@ -0,0 +1,50 @@
+package code.with.vanilson.securityservice.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * The position of a keyset page: its sort direction and the key of the last row already returned.
+ * <p>
+ * Clients receive it as the Base64URL encoding of {@code <asc|desc>:<lastKey>} and must treat it as opaque. Both
+ * services read and write it through this class, so a cursor from either can be passed to the other.
+ *
+ * @param ascending whether the listing is in ascending key order
+ * @param lastKey   the key of the last row already returned
+ */
+public record PageCursor(boolean ascending, long lastKey) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * @return the opaque cursor handed to clients
+     */
+    public String encode() {
+        String raw = (ascending ? "asc" : "desc") + ":" + lastKey;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor a cursor produced by {@link #encode()}
+     * @return the decoded position
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static PageCursor decode(String cursor) {
+        String decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Cursor has no key");
+        }
+        String direction = decoded.substring(0, separator);
+        boolean ascending;
+        if (direction.equalsIgnoreCase("asc")) {
+            ascending = true;
+        } else if (direction.equalsIgnoreCase("desc")) {
+            ascending = false;
+        } else {
+            throw new IllegalArgumentException("Cursor direction must be asc or desc");
+        }
+        return new PageCursor(ascending, Long.parseLong(decoded.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,10 @@
+package code.with.vanilson.securityservice.common.security;
+
+/**
+ * Thrown by {@link JwtCodec} for a token that cannot be trusted; each service maps it to its own error response.
+ */
+public class InvalidJwtException extends RuntimeException {
+    public InvalidJwtException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,95 @@
+package code.with.vanilson.securityservice.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Signs and verifies the HS256 tokens of the API and defines their claims. The servlet service issues tokens and
+ * the reactive service only verifies them; both go through this class with the same {@code security.jwt.secret}.
+ */
+public final class JwtCodec {
+
+    public static final String AUTHORITIES_CLAIM = "authorities";
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    /**
+     * @param secret the Base64-encoded signing key, at least 256 bits
+     */
+    public JwtCodec(String secret) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
+    /**
+     * Issues a signed token.
+     *
+     * @param subject     the username
+     * @param type        the token type
+     * @param authorities the authorities to carry, or {@code null} for a token without them
+     * @param ttl         how long the token stays valid
+     * @return the compact, signed token
+     */
+    public String issue(String subject, TokenType type, Collection<String> authorities, Duration ttl) {
+        Instant now = Instant.now();
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(subject)
+                .claim(TOKEN_TYPE_CLAIM, type.claimValue());
+        if (authorities != null) {
+            builder.claim(AUTHORITIES_CLAIM, List.copyOf(authorities));
+        }
+        return builder
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(ttl)))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * Verifies the signature and expiry of a token and checks it is of the expected type.
+     *
+     * @param token    the compact token
+     * @param expected the token type the caller accepts
+     * @return the verified claims
+     * @throws InvalidJwtException if the token is malformed, expired, tampered with or of the wrong type
+     */
+    public Claims verify(String token, TokenType expected) {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidJwtException("Invalid or expired token");
+        }
+        if (!expected.claimValue().equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new InvalidJwtException("Unexpected token type");
+        }
+        return claims;
+    }
+
+    /**
+     * @param claims verified claims
+     * @return the authorities carried by the token, empty if it carries none
+     */
+    public static List<String> authorities(Claims claims) {
+        List<?> values = claims.get(AUTHORITIES_CLAIM, List.class);
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().map(Object::toString).toList();
+    }
+}
@@ -0,0 +1,19 @@
+package code.with.vanilson.securityservice.common.security;
+
+/**
+ * The kinds of token issued by the servlet service, told apart by the {@value JwtCodec#TOKEN_TYPE_CLAIM} claim.
+ */
+public enum TokenType {
+    ACCESS("access"),
+    REFRESH("refresh");
+
+    private final String claimValue;
+
+    TokenType(String claimValue) {
+        this.claimValue = claimValue;
+    }
+
+    public String claimValue() {
+        return claimValue;
+    }
+}
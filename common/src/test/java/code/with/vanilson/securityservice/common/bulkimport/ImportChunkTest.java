@@ -0,0 +1,94 @@
+package code.with.vanilson.securityservice.common.bulkimport;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class ImportChunkTest {
+
+    private record Person(String username, String email) {
+    }
+
+    private static String validate(Person person) {
+        return person == null ? "Person cannot be null" : null;
+    }
+
+    @Test
+    @DisplayName("Unparseable and invalid rows fail before the duplicate checks")
+    void testValidation() {
+        ImportRow<Person> valid = ImportRow.parsed(1, new Person("a", "a@example.com"));
+        var chunk = new ImportChunk<>(List.of(valid, ImportRow.unparseable(2, "Row is not an employee object"),
+                ImportRow.parsed(3, null)), ImportChunkTest::validate);
+        var report = new BulkImportReport();
+
+        Assertions.assertEquals(List.of(valid), chunk.candidates());
+        chunk.report(Map.of(valid, 7), report);
+
+        Assertions.assertEquals(3, report.getTotal());
+        Assertions.assertEquals(1, report.getImported());
+        Assertions.assertEquals(7, report.getResults().get(0).getEmployeeId());
+        Assertions.assertEquals("Row is not an employee object", report.getResults().get(1).getError());
+        Assertions.assertEquals("Person cannot be null", report.getResults().get(2).getError());
+    }
+
+    @Test
+    @DisplayName("Stored and repeated values fail per column; a row rejected for one column is not checked again")
+    void testRejectDuplicates() {
+        var chunk = new ImportChunk<>(List.of(
+                ImportRow.parsed(1, new Person("taken", "new1@example.com")),
+                ImportRow.parsed(2, new Person("a", "a@example.com")),
+                ImportRow.parsed(3, new Person("a", "b@example.com")),
+                ImportRow.parsed(4, new Person("b", "a@example.com")),
+                ImportRow.parsed(5, new Person("c", "taken@example.com")),
+                ImportRow.parsed(6, new Person("d", "new1@example.com"))), ImportChunkTest::validate);
+
+        Assertions.assertEquals(Set.of("taken", "a", "b", "c", "d"), chunk.candidateValues(Person::username));
+        chunk.rejectDuplicates("Username", Person::username, Set.of("taken"));
+        chunk.rejectDuplicates("Email", Person::email, Set.of("taken@example.com"));
+        var report = new BulkImportReport();
+        chunk.report(Map.of(), report);
+
+        Assertions.assertEquals(Arrays.asList(
+                "Username already exists: taken",
+                null,
+                "Username already exists: a",
+                "Email already exists: a@example.com",
+                "Email already exists: taken@example.com",
+                null), report.getResults().stream().map(BulkImportResult::getError).toList());
+    }
+
+    @Test
+    @DisplayName("A row the database refused fails with the given error")
+    void testReject() {
+        ImportRow<Person> first = ImportRow.parsed(1, new Person("a", "a@example.com"));
+        ImportRow<Person> second = ImportRow.parsed(2, new Person("b", "b@example.com"));
+        var chunk = new ImportChunk<>(List.of(first, second), ImportChunkTest::validate);
+
+        chunk.reject(second, "Username or email already exists");
+        var report = new BulkImportReport();
+        chunk.report(Map.of(first, 1), report);
+
+        Assertions.assertEquals(List.of(first), chunk.candidates());
+        Assertions.assertEquals(BulkImportResult.Status.CREATED, report.getResults().get(0).getStatus());
+        Assertions.assertEquals("Username or email already exists", report.getResults().get(1).getError());
+    }
+
+    @Test
+    @DisplayName("A CSV line is reordered to the expected columns, or fails on a wrong value count")
+    void testFromCsv() {
+        int[] columnIndexes = {1, 0};
+
+        ImportRow<Person> parsed = ImportRow.fromCsv(1, List.of("a@example.com", "a"), columnIndexes,
+                values -> new Person(values.get(0), values.get(1)));
+        ImportRow<Person> tooShort = ImportRow.fromCsv(2, List.of("a"), columnIndexes,
+                values -> new Person(values.get(0), values.get(1)));
+
+        Assertions.assertEquals(new Person("a", "a@example.com"), parsed.value());
+        Assertions.assertEquals("Expected 2 columns but found 1", tooShort.parseError());
+    }
+}
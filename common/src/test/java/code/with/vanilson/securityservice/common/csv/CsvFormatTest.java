@@ -0,0 +1,39 @@
+package code.with.vanilson.securityservice.common.csv;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+class CsvFormatTest {
+
+    private static final List<String> COLUMNS = List.of("firstname", "lastname", "username", "email");
+
+    @Test
+    @DisplayName("Values are trimmed and unquoted, empty values are null")
+    void testSplitLine() {
+        Assertions.assertEquals(Arrays.asList("John", "Doe", null, "john@example.com"),
+                CsvFormat.splitLine(" \"John\" ,Doe,, \"john@example.com\""));
+    }
+
+    @Test
+    @DisplayName("Header columns may come in any order and any case")
+    void testColumnIndexes() {
+        int[] indexes = CsvFormat.columnIndexes(List.of("Email", "USERNAME", "lastName", "firstName"), COLUMNS);
+
+        Assertions.assertArrayEquals(new int[]{3, 2, 1, 0}, indexes);
+    }
+
+    @Test
+    @DisplayName("Header with a missing or extra column is rejected")
+    void testColumnIndexes_Invalid() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CsvFormat.columnIndexes(List.of("firstName", "lastName", "username"), COLUMNS));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CsvFormat.columnIndexes(List.of("firstName", "lastName", "username", "phone"), COLUMNS));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CsvFormat.columnIndexes(
+                List.of("firstName", "lastName", "username", "email", "phone"), COLUMNS));
+    }
+}
@@ -0,0 +1,81 @@
+package code.with.vanilson.securityservice.common.pagination;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+class KeysetPageRequestTest {
+
+    @Test
+    @DisplayName("First page starts from the given key and fetches one extra row")
+    void testFirstPage() {
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(null, 10, null);
+
+        Assertions.assertTrue(pageRequest.isAscending());
+        Assertions.assertEquals(0L, pageRequest.afterKey(0));
+        Assertions.assertEquals(11, pageRequest.fetchSize());
+    }
+
+    @Test
+    @DisplayName("Page size is capped and defaulted")
+    void testPageSizeCap() {
+        Assertions.assertEquals(KeysetPageRequest.MAX_PAGE_SIZE + 1,
+                KeysetPageRequest.of(null, 10_000, null).fetchSize());
+        Assertions.assertEquals(KeysetPageRequest.DEFAULT_PAGE_SIZE + 1,
+                KeysetPageRequest.of(null, null, null).fetchSize());
+        Assertions.assertThrows(InvalidPageRequestException.class, () -> KeysetPageRequest.of(null, 0, null));
+    }
+
+    @Test
+    @DisplayName("Next cursor resumes after the last returned key in the same direction")
+    void testNextCursorRoundTrip() {
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(null, 3, "desc");
+        List<Long> rows = List.of(9L, 8L, 7L, 6L);
+
+        CursorPage<Long> page = pageRequest.toPage(rows, Function.identity(), Long::longValue);
+
+        Assertions.assertEquals(List.of(9L, 8L, 7L), page.getItems());
+        Assertions.assertNotNull(page.getNextCursor());
+
+        KeysetPageRequest next = KeysetPageRequest.of(page.getNextCursor(), 3, "asc");
+        Assertions.assertFalse(next.isAscending());
+        Assertions.assertEquals(7L, next.afterKey(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Last page has no next cursor")
+    void testLastPage() {
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(null, 5, null);
+        List<Long> rows = LongStream.rangeClosed(1, 5).boxed().toList();
+
+        CursorPage<Long> page = pageRequest.toPage(rows, Function.identity(), Long::longValue);
+
+        Assertions.assertEquals(5, page.getItems().size());
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Malformed cursor and direction are rejected")
+    void testInvalidInput() {
+        Assertions.assertThrows(InvalidPageRequestException.class, () -> KeysetPageRequest.of("not a cursor!", 5, null));
+        Assertions.assertThrows(InvalidPageRequestException.class, () -> KeysetPageRequest.of(null, 5, "sideways"));
+        Assertions.assertFalse(KeysetPageRequest.of(null, 5, "DESC").isAscending());
+    }
+
+    @Test
+    @DisplayName("Int key bound accepts keys in the int range and rejects others")
+    void testIntAfterKey() {
+        KeysetPageRequest firstPage = KeysetPageRequest.of(null, 5, "desc");
+        // "asc:2147483647" and "asc:2147483648"
+        KeysetPageRequest lastIntKey = KeysetPageRequest.of("YXNjOjIxNDc0ODM2NDc", 5, null);
+        KeysetPageRequest beyondInt = KeysetPageRequest.of("YXNjOjIxNDc0ODM2NDg", 5, null);
+
+        Assertions.assertEquals(Integer.MAX_VALUE, firstPage.intAfterKey(Integer.MAX_VALUE));
+        Assertions.assertEquals(Integer.MAX_VALUE, lastIntKey.intAfterKey(0));
+        Assertions.assertThrows(InvalidPageRequestException.class, () -> beyondInt.intAfterKey(0));
+    }
+}
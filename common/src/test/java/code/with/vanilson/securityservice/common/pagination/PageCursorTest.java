@@ -0,0 +1,33 @@
+package code.with.vanilson.securityservice.common.pagination;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+    @Test
+    @DisplayName("A cursor decodes to the position it was encoded from")
+    void testRoundTrip() {
+        PageCursor cursor = new PageCursor(false, 7L);
+
+        Assertions.assertEquals(cursor, PageCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    @DisplayName("The wire format is Base64URL of <direction>:<lastKey> without padding")
+    void testWireFormat() {
+        Assertions.assertEquals("YXNjOjQy", new PageCursor(true, 42L).encode());
+        Assertions.assertEquals(new PageCursor(false, 42L), PageCursor.decode("ZGVzYzo0Mg"));
+    }
+
+    @Test
+    @DisplayName("Malformed cursors are rejected")
+    void testMalformed() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor!"));
+        // "asc42", "sideways:1" and "asc:x"
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("YXNjNDI"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("c2lkZXdheXM6MQ"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("YXNjOng"));
+    }
+}
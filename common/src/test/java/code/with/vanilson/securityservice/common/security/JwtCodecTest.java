@@ -0,0 +1,49 @@
+package code.with.vanilson.securityservice.common.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+class JwtCodecTest {
+
+    private static final String SECRET = "dGVzdC1zaWduaW5nLWtleS10aGF0LWlzLWF0LWxlYXN0LTI1Ni1iaXRz";
+
+    private final JwtCodec jwtCodec = new JwtCodec(SECRET);
+
+    @Test
+    @DisplayName("An access token carries its subject and authorities")
+    void testIssueAndVerify() {
+        String token = jwtCodec.issue("john", TokenType.ACCESS, List.of("ROLE_USER"), Duration.ofMinutes(5));
+
+        Claims claims = jwtCodec.verify(token, TokenType.ACCESS);
+
+        Assertions.assertEquals("john", claims.getSubject());
+        Assertions.assertEquals(List.of("ROLE_USER"), JwtCodec.authorities(claims));
+    }
+
+    @Test
+    @DisplayName("A token without authorities yields none")
+    void testNoAuthorities() {
+        String token = jwtCodec.issue("john", TokenType.REFRESH, null, Duration.ofMinutes(5));
+
+        Assertions.assertEquals(List.of(), JwtCodec.authorities(jwtCodec.verify(token, TokenType.REFRESH)));
+    }
+
+    @Test
+    @DisplayName("Wrong type, expired, tampered and foreign tokens are rejected")
+    void testRejected() {
+        String refresh = jwtCodec.issue("john", TokenType.REFRESH, null, Duration.ofMinutes(5));
+        String expired = jwtCodec.issue("john", TokenType.ACCESS, List.of(), Duration.ofSeconds(-1));
+        String foreign = new JwtCodec("b3RoZXItc2lnbmluZy1rZXktdGhhdC1pcy1hdC1sZWFzdC0yNTYtYml0cw==")
+                .issue("john", TokenType.ACCESS, List.of(), Duration.ofMinutes(5));
+
+        Assertions.assertThrows(InvalidJwtException.class, () -> jwtCodec.verify(refresh, TokenType.ACCESS));
+        Assertions.assertThrows(InvalidJwtException.class, () -> jwtCodec.verify(expired, TokenType.ACCESS));
+        Assertions.assertThrows(InvalidJwtException.class, () -> jwtCodec.verify(refresh + "x", TokenType.REFRESH));
+        Assertions.assertThrows(InvalidJwtException.class, () -> jwtCodec.verify(foreign, TokenType.ACCESS));
+    }
+}
@@ -0,0 +1,15 @@
+package code.with.vanilson.securityservice.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+
+// Requests are authenticated from bearer tokens only, so there is no in-memory user to generate
+@SpringBootApplication(exclude = ReactiveUserDetailsServiceAutoConfiguration.class)
+public class ReactiveSecurityServiceApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveSecurityServiceApplication.class, args);
+    }
+
+}
@@ -0,0 +1,139 @@
+package code.with.vanilson.securityservice.reactive.controller;
+
+import code.with.vanilson.securityservice.common.bulkimport.BulkImportReport;
+import code.with.vanilson.securityservice.common.pagination.CursorPage;
+import code.with.vanilson.securityservice.common.pagination.KeysetPageRequest;
+import code.with.vanilson.securityservice.reactive.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.reactive.service.EmployeeBulkImportService;
+import code.with.vanilson.securityservice.reactive.service.EmployeeExportService;
+import code.with.vanilson.securityservice.reactive.service.EmployeeService;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@code /api/employees} contract of the servlet {@code EmployeeController}, served on the event loop:
+ * same paths, parameters, status codes and bodies.
+ */
+@RestController
+@RequestMapping("/api/employees")
+@Slf4j
+public class EmployeeController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final EmployeeService employeeService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeBulkImportService employeeBulkImportService;
+
+    public EmployeeController(EmployeeService employeeService, EmployeeExportService employeeExportService,
+                              EmployeeBulkImportService employeeBulkImportService) {
+        this.employeeService = employeeService;
+        this.employeeExportService = employeeExportService;
+        this.employeeBulkImportService = employeeBulkImportService;
+    }
+
+    /**
+     * Retrieves one page of employees ordered by ID.
+     *
+     * @param cursor    the opaque cursor returned with the previous page; omit for the first page
+     * @param size      the page size, capped at {@value KeysetPageRequest#MAX_PAGE_SIZE}
+     * @param direction {@code asc} (default) or {@code desc}
+     * @return a page of EmployeeDTO with the cursor of the next page
+     */
+    @GetMapping
+    public Mono<ResponseEntity<CursorPage<EmployeeDTO>>> getAllEmployees(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "direction", required = false) String direction) {
+        log.debug("GET employees page");
+        return employeeService.getEmployeesPage(KeysetPageRequest.of(cursor, size, direction))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Exports all employees as newline-delimited JSON, written as rows arrive from the database cursor.
+     *
+     * @return the NDJSON stream
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeDTO> exportEmployees() {
+        log.info("GET employees export");
+        return employeeExportService.exportEmployees();
+    }
+
+    /**
+     * Retrieves an employee by their ID.
+     *
+     * @param id the ID of the employee to retrieve
+     * @return the EmployeeDTO representing the employee
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<EmployeeDTO>> getEmployeeById(@PathVariable int id) {
+        log.debug("GET employee by ID: {}", id);
+        return employeeService.getEmployeeById(id).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Retrieves an employee by their email.
+     *
+     * @param email the email of the employee to retrieve
+     * @return the EmployeeDTO representing the employee
+     */
+    @GetMapping("/email/{email}")
+    public Mono<ResponseEntity<EmployeeDTO>> getEmployeeByEmail(@PathVariable String email) {
+        log.debug("GET employee by email");
+        return employeeService.getEmployeeByEmail(email).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Creates a new employee.
+     *
+     * @param employeeDTO the EmployeeDTO representing the employee to create
+     * @return the created EmployeeDTO
+     */
+    @PostMapping
+    public Mono<ResponseEntity<EmployeeDTO>> createEmployee(@RequestBody @Valid Mono<EmployeeDTO> employeeDTO) {
+        return employeeDTO.flatMap(employeeService::createEmployee)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    /**
+     * Creates employees in bulk from a JSON array of EmployeeDTO.
+     *
+     * @param employees the array elements, decoded as JSON trees as the body arrives and bound to EmployeeDTO
+     *                  one by one, so a badly typed element fails its row only
+     * @return the per-row import report
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<BulkImportReport>> importEmployees(@RequestBody Flux<JsonNode> employees) {
+        return employeeBulkImportService.importJson(employees).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Creates employees in bulk from a CSV stream with the header {@code firstName,lastName,username,email}.
+     *
+     * @param lines the body, decoded line by line as it arrives
+     * @return the per-row import report
+     */
+    @PostMapping(value = "/bulk", consumes = TEXT_CSV_VALUE)
+    public Mono<ResponseEntity<BulkImportReport>> importEmployeesCsv(@RequestBody Flux<String> lines) {
+        return employeeBulkImportService.importCsv(lines).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Deletes an employee by their ID.
+     *
+     * @param id the ID of the employee to delete
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteEmployee(@PathVariable int id) {
+        return employeeService.deleteEmployee(id)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+}
@@ -0,0 +1,34 @@
+package code.with.vanilson.securityservice.reactive.domain;
+
+import jakarta.validation.constraints.Email;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Row of the {@code employees} table owned by the servlet service. A {@code null} ID marks a new employee;
+ * the column default takes it from {@code employee_id_seq}. The servlet service allocates the 50 IDs up to each
+ * value it draws from that sequence, so a value drawn here never falls inside one of its blocks.
+ */
+@Table("employees")
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Builder
+@ToString
+@Getter
+@Setter
+public class Employee {
+    @Id
+    @Column("employee_id")
+    private Integer employeeId;
+    @Column("firstname")
+    private String firstName;
+    @Column("lastname")
+    private String lastName;
+    private String username;
+    @Email(message = "Email is not valid", regexp = "^[a-zA-Z0-9_!#$%&'*+/=?`{|}~^.-]+@[a-zA-Z0-9.-]+$")
+    private String email;
+
+}
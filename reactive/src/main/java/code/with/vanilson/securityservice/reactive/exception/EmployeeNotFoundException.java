@@ -0,0 +1,11 @@
+package code.with.vanilson.securityservice.reactive.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class EmployeeNotFoundException extends RuntimeException {
+    public EmployeeNotFoundException() {
+        super("Employee with {0} Not Found");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package code.with.vanilson.securityservice.reactive.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class EmployeeWithEmailAlreadyExistException extends RuntimeException {
+    public EmployeeWithEmailAlreadyExistException() {
+        super("Employee with email already exist");
+    }
+}
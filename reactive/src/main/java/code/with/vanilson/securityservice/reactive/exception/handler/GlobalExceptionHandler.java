@@ -0,0 +1,57 @@
+package code.with.vanilson.securityservice.reactive.exception.handler;
+
+import code.with.vanilson.securityservice.common.bulkimport.InvalidImportPayloadException;
+import code.with.vanilson.securityservice.common.pagination.InvalidPageRequestException;
+import code.with.vanilson.securityservice.reactive.exception.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Same error bodies as the servlet service; {@code path} keeps its {@code uri=} prefix.
+ */
+@ControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(EmployeeNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleEmployeeNotFoundException(EmployeeNotFoundException ex,
+                                                                         ServerWebExchange exchange) {
+        return error(HttpStatus.NOT_FOUND, ex, exchange);
+    }
+
+    @ExceptionHandler(EmployeeWithEmailAlreadyExistException.class)
+    public ResponseEntity<ErrorResponse> handleEmployeeEmailAndUsernameException(
+            EmployeeWithEmailAlreadyExistException ex,
+            ServerWebExchange exchange) {
+        return error(HttpStatus.BAD_REQUEST, ex, exchange);
+    }
+
+    @ExceptionHandler(CannotSaveEmployeeWithNullValuesException.class)
+    public ResponseEntity<ErrorResponse> handleEmailCannotBeNullException(CannotSaveEmployeeWithNullValuesException ex,
+                                                                          ServerWebExchange exchange) {
+        return error(HttpStatus.BAD_REQUEST, ex, exchange);
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPageRequestException(InvalidPageRequestException ex,
+                                                                           ServerWebExchange exchange) {
+        return error(HttpStatus.BAD_REQUEST, ex, exchange);
+    }
+
+    @ExceptionHandler(InvalidImportPayloadException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImportPayloadException(InvalidImportPayloadException ex,
+                                                                             ServerWebExchange exchange) {
+        return error(HttpStatus.BAD_REQUEST, ex, exchange);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, RuntimeException ex,
+                                                       ServerWebExchange exchange) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                status.value(),
+                ex.getMessage(),
+                "uri=" + exchange.getRequest().getPath().value());
+        return new ResponseEntity<>(errorResponse, status);
+    }
+}
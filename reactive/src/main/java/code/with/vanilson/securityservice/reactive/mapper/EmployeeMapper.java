@@ -0,0 +1,38 @@
+package code.with.vanilson.securityservice.reactive.mapper;
+
+import code.with.vanilson.securityservice.reactive.domain.Employee;
+import code.with.vanilson.securityservice.reactive.dto.EmployeeDTO;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps {@link Employee} rows to {@link EmployeeDTO} and back.
+ */
+@Component
+public class EmployeeMapper {
+
+    /**
+     * Maps an {@link Employee} row to an {@link EmployeeDTO} object.
+     *
+     * @param employee The {@link Employee} row to be mapped.
+     * @return The corresponding {@link EmployeeDTO} object.
+     */
+    public EmployeeDTO getEmployeeDTO(Employee employee) {
+        return new EmployeeDTO(employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
+                employee.getUsername(), employee.getEmail());
+    }
+
+    /**
+     * Converts a DTO into a new, unsaved employee. The ID of the DTO is ignored, so saving always inserts.
+     *
+     * @param employeeDTO employeeDTO
+     * @return Employee
+     */
+    public Employee toNewEmployee(EmployeeDTO employeeDTO) {
+        return Employee.builder()
+                .firstName(employeeDTO.getFirstName())
+                .lastName(employeeDTO.getLastName())
+                .username(employeeDTO.getUsername())
+                .email(employeeDTO.getEmail())
+                .build();
+    }
+}
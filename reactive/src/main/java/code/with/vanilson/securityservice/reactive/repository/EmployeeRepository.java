@@ -0,0 +1,40 @@
+package code.with.vanilson.securityservice.reactive.repository;
+
+import code.with.vanilson.securityservice.reactive.domain.Employee;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@Repository
+public interface EmployeeRepository extends R2dbcRepository<Employee, Integer> {
+
+    Mono<Employee> findByEmail(String email);
+
+    Mono<Boolean> existsByUsernameOrEmail(String username, String email);
+
+    @Query("SELECT username FROM employees WHERE username IN (:usernames)")
+    Flux<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT email FROM employees WHERE email IN (:emails)")
+    Flux<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    Flux<Employee> findByEmployeeIdGreaterThan(int employeeId, Pageable pageable);
+
+    Flux<Employee> findByEmployeeIdLessThan(int employeeId, Pageable pageable);
+
+    /**
+     * Deletes in one statement, without loading the row first.
+     *
+     * @return the number of deleted rows, 0 or 1
+     */
+    @Modifying
+    @Query("DELETE FROM employees WHERE employee_id = :id")
+    Mono<Integer> deleteEmployeeById(@Param("id") int id);
+}
@@ -0,0 +1,51 @@
+package code.with.vanilson.securityservice.reactive.security;
+
+import code.with.vanilson.securityservice.common.security.InvalidJwtException;
+import code.with.vanilson.securityservice.common.security.JwtCodec;
+import code.with.vanilson.securityservice.common.security.TokenType;
+import code.with.vanilson.securityservice.reactive.exception.InvalidTokenException;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Verifies the access tokens issued by the servlet service, which share {@code security.jwt.secret} and the
+ * {@link JwtCodec} with this one. Tokens are only verified here; login and refresh stay with the servlet service.
+ */
+@Component
+public class JwtService {
+
+    private final JwtCodec jwtCodec;
+
+    public JwtService(@Value("${security.jwt.secret}") String secret) {
+        this.jwtCodec = new JwtCodec(secret);
+    }
+
+    /**
+     * Builds an authenticated principal straight from a verified access token.
+     *
+     * @param accessToken the compact access token
+     * @return the authenticated token holding the username and authorities from the claims
+     * @throws InvalidTokenException if the token is malformed, expired, tampered with or not an access token
+     */
+    public UsernamePasswordAuthenticationToken authenticate(String accessToken) {
+        Claims claims;
+        try {
+            claims = jwtCodec.verify(accessToken, TokenType.ACCESS);
+        } catch (InvalidJwtException e) {
+            throw new InvalidTokenException(e.getMessage());
+        }
+        return UsernamePasswordAuthenticationToken.authenticated(claims.getSubject(), null, authorities(claims));
+    }
+
+    private static Collection<GrantedAuthority> authorities(Claims claims) {
+        return JwtCodec.authorities(claims).stream()
+                .map(value -> (GrantedAuthority) new SimpleGrantedAuthority(value))
+                .toList();
+    }
+}
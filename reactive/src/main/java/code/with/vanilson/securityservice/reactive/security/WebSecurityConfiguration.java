@@ -0,0 +1,72 @@
+package code.with.vanilson.securityservice.reactive.security;
+
+import code.with.vanilson.securityservice.reactive.exception.InvalidTokenException;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stateless bearer-token chain: every exchange must carry a valid access token from the servlet service. The
+ * token signature is the only thing checked, so authentication never touches the database.
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class WebSecurityConfiguration {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtService jwtService) {
+        var bearerAuthentication = new AuthenticationWebFilter(bearerAuthenticationManager(jwtService));
+        bearerAuthentication.setServerAuthenticationConverter(bearerTokenConverter());
+        bearerAuthentication.setAuthenticationFailureHandler(
+                new ServerAuthenticationEntryPointFailureHandler(entryPoint("Bearer error=\"invalid_token\"")));
+        return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchanges -> exchanges.anyExchange().authenticated())
+                .addFilterAt(bearerAuthentication, SecurityWebFiltersOrder.AUTHENTICATION)
+                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(entryPoint("Bearer")))
+                .build();
+    }
+
+    private static ReactiveAuthenticationManager bearerAuthenticationManager(JwtService jwtService) {
+        return authentication -> Mono.fromCallable(
+                        () -> jwtService.authenticate((String) authentication.getCredentials()))
+                .onErrorMap(InvalidTokenException.class, e -> new BadCredentialsException(e.getMessage(), e))
+                .cast(Authentication.class);
+    }
+
+    /**
+     * Requests without a bearer token yield no authentication and are turned away by the entry point.
+     */
+    private static ServerAuthenticationConverter bearerTokenConverter() {
+        return exchange -> Mono.justOrEmpty(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                .filter(header -> header.startsWith(BEARER_PREFIX))
+                .map(header -> UsernamePasswordAuthenticationToken.unauthenticated(null,
+                        header.substring(BEARER_PREFIX.length())));
+    }
+
+    private static ServerAuthenticationEntryPoint entryPoint(String challenge) {
+        return (exchange, e) -> Mono.fromRunnable(() -> {
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, challenge);
+        });
+    }
+}
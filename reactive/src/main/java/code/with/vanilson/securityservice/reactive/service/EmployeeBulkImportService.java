@@ -0,0 +1,263 @@
+package code.with.vanilson.securityservice.reactive.service;
+
+import code.with.vanilson.securityservice.common.bulkimport.BulkImportReport;
+import code.with.vanilson.securityservice.common.bulkimport.ImportChunk;
+import code.with.vanilson.securityservice.common.bulkimport.ImportRow;
+import code.with.vanilson.securityservice.common.bulkimport.InvalidImportPayloadException;
+import code.with.vanilson.securityservice.common.csv.CsvFormat;
+import code.with.vanilson.securityservice.reactive.domain.Employee;
+import code.with.vanilson.securityservice.reactive.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.reactive.mapper.EmployeeMapper;
+import code.with.vanilson.securityservice.reactive.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Imports employees in bulk from a JSON array or a CSV stream, with the same chunking and per-row report as
+ * the servlet service.
+ * <p>
+ * The body is decoded element by element as it arrives and handled in chunks of {@value #CHUNK_SIZE}: each
+ * chunk is validated by an {@link ImportChunk} (bean constraints, duplicates inside the chunk, and existing
+ * usernames/emails with one query per column), then the valid rows are inserted in their own transaction; a row that violates a unique
+ * constraint fails alone. The next chunk is not requested from the body until the previous one is written.
+ */
+@Service
+@Slf4j
+public class EmployeeBulkImportService {
+
+    static final int CHUNK_SIZE = 500;
+    private static final List<String> CSV_COLUMNS = List.of("firstname", "lastname", "username", "email");
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final Validator validator;
+    private final TransactionalOperator transactionalOperator;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeBulkImportService(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                                     Validator validator, TransactionalOperator transactionalOperator,
+                                     ObjectMapper objectMapper) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.validator = validator;
+        this.transactionalOperator = transactionalOperator;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Imports a JSON array of employees.
+     * <p>
+     * An element that is well-formed JSON but not an employee, such as a number where a string is expected,
+     * fails its row only. If the body turns malformed after some rows were decoded, those rows are still imported
+     * (earlier chunks are already committed) and the report ends with a failed entry for the position where
+     * decoding stopped.
+     *
+     * @param employees the array elements, decoded as JSON trees as they arrive
+     * @return the per-row import report, or an {@link InvalidImportPayloadException} error if the body is not a
+     * JSON array from its first row
+     */
+    public Mono<BulkImportReport> importJson(Flux<JsonNode> employees) {
+        return Mono.defer(() -> {
+            var report = new BulkImportReport();
+            var rowsRead = new AtomicLong();
+            var malformed = new AtomicBoolean();
+            Flux<ImportRow<EmployeeDTO>> rows = employees.index((index, element) -> toRow(index + 1, element))
+                    .doOnNext(row -> rowsRead.set(row.number()))
+                    .onErrorResume(EmployeeBulkImportService::isDecodingError, e -> {
+                        malformed.set(true);
+                        return Flux.empty();
+                    });
+            return importRows(rows, report)
+                    .flatMap(imported -> {
+                        if (!malformed.get()) {
+                            log.info("Bulk JSON import: {} rows, {} imported, {} failed",
+                                    report.getTotal(), report.getImported(), report.getFailed());
+                            return Mono.just(imported);
+                        }
+                        if (rowsRead.get() == 0) {
+                            return Mono.error(new InvalidImportPayloadException(
+                                    "Body must be a JSON array of employees"));
+                        }
+                        report.failed(rowsRead.get() + 1,
+                                "Malformed JSON; this and any later rows were not imported");
+                        log.warn("Bulk JSON import stopped at row {}: {} rows, {} imported, {} failed",
+                                rowsRead.get() + 1, report.getTotal(), report.getImported(), report.getFailed());
+                        return Mono.just(imported);
+                    });
+        });
+    }
+
+    /**
+     * Imports a CSV stream whose first line names the columns {@code firstName,lastName,username,email} in any
+     * order. Values are trimmed and may be wrapped in double quotes; quoted values may not contain commas.
+     *
+     * @param lines the body, decoded line by line as it arrives
+     * @return the per-row import report
+     */
+    public Mono<BulkImportReport> importCsv(Flux<String> lines) {
+        return Mono.defer(() -> {
+            var report = new BulkImportReport();
+            Flux<ImportRow<EmployeeDTO>> rows = lines.switchOnFirst((header, all) -> {
+                if (!header.hasValue()) {
+                    return Flux.empty();
+                }
+                int[] columnIndexes;
+                try {
+                    columnIndexes = csvColumnIndexes(CsvFormat.splitLine(header.get()));
+                } catch (InvalidImportPayloadException e) {
+                    return Flux.error(e);
+                }
+                return all.skip(1)
+                        .filter(line -> !line.isBlank())
+                        .index((index, line) -> ImportRow.fromCsv(index + 1, CsvFormat.splitLine(line),
+                                columnIndexes, EmployeeBulkImportService::toEmployee));
+            });
+            return importRows(rows, report)
+                    .doOnSuccess(imported -> log.info("Bulk CSV import: {} rows, {} imported, {} failed",
+                            report.getTotal(), report.getImported(), report.getFailed()));
+        });
+    }
+
+    private Mono<BulkImportReport> importRows(Flux<ImportRow<EmployeeDTO>> rows, BulkImportReport report) {
+        return rows.buffer(CHUNK_SIZE)
+                .concatMap(chunk -> importChunk(chunk, report))
+                .then(Mono.just(report));
+    }
+
+    private Mono<Void> importChunk(List<ImportRow<EmployeeDTO>> rows, BulkImportReport report) {
+        var chunk = new ImportChunk<>(rows, this::validate);
+        return rejectDuplicates(chunk)
+                .then(Mono.defer(() -> insert(chunk.candidates(), chunk)))
+                .doOnNext(savedIds -> chunk.report(savedIds, report))
+                .then();
+    }
+
+    private Mono<Void> rejectDuplicates(ImportChunk<EmployeeDTO> chunk) {
+        if (chunk.candidates().isEmpty()) {
+            return Mono.empty();
+        }
+        Mono<Set<String>> existingUsernames = employeeRepository.findExistingUsernames(
+                        chunk.candidateValues(EmployeeDTO::getUsername))
+                .collect(Collectors.toSet());
+        Mono<Set<String>> existingEmails = employeeRepository.findExistingEmails(
+                        chunk.candidateValues(EmployeeDTO::getEmail))
+                .collect(Collectors.toSet());
+        return Mono.zip(existingUsernames, existingEmails)
+                .doOnNext(existing -> {
+                    chunk.rejectDuplicates("Username", EmployeeDTO::getUsername, existing.getT1());
+                    chunk.rejectDuplicates("Email", EmployeeDTO::getEmail, existing.getT2());
+                })
+                .then();
+    }
+
+    /**
+     * Inserts the rows in one transaction. If a concurrent insert took a username or email between the check
+     * and the insert, the rows are split in halves and retried one half after the other, so only the
+     * conflicting rows fail.
+     */
+    private Mono<Map<ImportRow<EmployeeDTO>, Integer>> insert(List<ImportRow<EmployeeDTO>> rows,
+                                                              ImportChunk<EmployeeDTO> chunk) {
+        if (rows.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        List<Employee> employees = rows.stream().map(row -> employeeMapper.toNewEmployee(row.value())).toList();
+        return transactionalOperator.transactional(employeeRepository.saveAll(employees).collectList())
+                .map(saved -> {
+                    Map<ImportRow<EmployeeDTO>, Integer> ids = new HashMap<>();
+                    for (int i = 0; i < rows.size(); i++) {
+                        ids.put(rows.get(i), saved.get(i).getEmployeeId());
+                    }
+                    return ids;
+                })
+                .onErrorResume(DataIntegrityViolationException.class, e -> {
+                    if (rows.size() == 1) {
+                        log.warn("Bulk import row {} rejected: unique constraint violated", rows.get(0).number());
+                        chunk.reject(rows.get(0), "Username or email already exists");
+                        return Mono.just(Map.of());
+                    }
+                    int middle = rows.size() / 2;
+                    return insert(rows.subList(0, middle), chunk)
+                            .flatMap(first -> insert(rows.subList(middle, rows.size()), chunk)
+                                    .map(second -> {
+                                        Map<ImportRow<EmployeeDTO>, Integer> ids = new HashMap<>(first);
+                                        ids.putAll(second);
+                                        return ids;
+                                    }));
+                });
+    }
+
+    private String validate(EmployeeDTO employeeDTO) {
+        if (employeeDTO == null) {
+            return "Employee cannot be null";
+        }
+        Set<ConstraintViolation<Object>> violations = new LinkedHashSet<>(validator.validate((Object) employeeDTO));
+        if (violations.isEmpty()) {
+            violations.addAll(validator.validate((Object) employeeMapper.toNewEmployee(employeeDTO)));
+        }
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * The body reader wraps decoding failures in a {@code ServerWebInputException}.
+     */
+    private static boolean isDecodingError(Throwable error) {
+        return error instanceof DecodingException || error.getCause() instanceof DecodingException;
+    }
+
+    private ImportRow<EmployeeDTO> toRow(long rowNumber, JsonNode element) {
+        try {
+            return ImportRow.parsed(rowNumber, objectMapper.treeToValue(element, EmployeeDTO.class));
+        } catch (JsonProcessingException e) {
+            return ImportRow.unparseable(rowNumber, invalidElementError(e));
+        }
+    }
+
+    private static String invalidElementError(JsonProcessingException e) {
+        String field = e instanceof JsonMappingException mappingException
+                ? mappingException.getPath().stream()
+                        .map(JsonMappingException.Reference::getFieldName)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.joining("."))
+                : "";
+        return field.isEmpty() ? "Row is not an employee object" : "Invalid value for " + field;
+    }
+
+    private static EmployeeDTO toEmployee(List<String> values) {
+        var employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName(values.get(0));
+        employeeDTO.setLastName(values.get(1));
+        employeeDTO.setUsername(values.get(2));
+        employeeDTO.setEmail(values.get(3));
+        return employeeDTO;
+    }
+
+    private static int[] csvColumnIndexes(List<String> header) {
+        try {
+            return CsvFormat.columnIndexes(header, CSV_COLUMNS);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidImportPayloadException("CSV header must be: firstName,lastName,username,email");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package code.with.vanilson.securityservice.reactive.service;
+
+import code.with.vanilson.securityservice.reactive.dto.EmployeeDTO;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streams every employee from a database cursor. Rows are fetched {@value #FETCH_SIZE} at a time and only as
+ * fast as the client reads the response, so neither heap use nor a thread depends on the size of the table.
+ */
+@Service
+public class EmployeeExportService {
+
+    static final int FETCH_SIZE = 500;
+
+    private final DatabaseClient databaseClient;
+
+    public EmployeeExportService(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * @return all employees ordered by ID
+     */
+    public Flux<EmployeeDTO> exportEmployees() {
+        return databaseClient.sql("SELECT employee_id, firstname, lastname, username, email FROM employees "
+                        + "ORDER BY employee_id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(row -> new EmployeeDTO(
+                        row.get("employee_id", Integer.class),
+                        row.get("firstname", String.class),
+                        row.get("lastname", String.class),
+                        row.get("username", String.class),
+                        row.get("email", String.class)))
+                .all();
+    }
+}
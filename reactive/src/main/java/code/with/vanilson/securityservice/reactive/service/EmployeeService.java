@@ -0,0 +1,121 @@
+package code.with.vanilson.securityservice.reactive.service;
+
+import code.with.vanilson.securityservice.common.pagination.CursorPage;
+import code.with.vanilson.securityservice.common.pagination.KeysetPageRequest;
+import code.with.vanilson.securityservice.reactive.domain.Employee;
+import code.with.vanilson.securityservice.reactive.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.reactive.exception.CannotSaveEmployeeWithNullValuesException;
+import code.with.vanilson.securityservice.reactive.exception.EmployeeNotFoundException;
+import code.with.vanilson.securityservice.reactive.exception.EmployeeWithEmailAlreadyExistException;
+import code.with.vanilson.securityservice.reactive.mapper.EmployeeMapper;
+import code.with.vanilson.securityservice.reactive.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the servlet {@code EmployeeService}. Every method returns a publisher that runs
+ * its statements when subscribed; no thread waits on the database.
+ */
+@Service
+@Slf4j
+public class EmployeeService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+
+    public EmployeeService(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+    }
+
+    /**
+     * Retrieves one page of employees ordered by employee ID.
+     *
+     * @param pageRequest the keyset page to fetch
+     * @return the page of EmployeeDTO with the cursor of the next page
+     */
+    public Mono<CursorPage<EmployeeDTO>> getEmployeesPage(KeysetPageRequest pageRequest) {
+        return Mono.defer(() -> {
+            var pageable = PageRequest.of(0, pageRequest.fetchSize(),
+                    Sort.by(pageRequest.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC, "employeeId"));
+            int afterKey = pageRequest.intAfterKey(pageRequest.isAscending() ? 0 : Integer.MAX_VALUE);
+            Flux<Employee> employees = pageRequest.isAscending()
+                    ? employeeRepository.findByEmployeeIdGreaterThan(afterKey, pageable)
+                    : employeeRepository.findByEmployeeIdLessThan(afterKey, pageable);
+            return employees.collectList()
+                    .map(rows -> pageRequest.toPage(rows, employeeMapper::getEmployeeDTO, Employee::getEmployeeId));
+        });
+    }
+
+    /**
+     * Retrieves an employee by their ID.
+     *
+     * @param id the ID of the employee to retrieve
+     * @return the EmployeeDTO, or an {@link EmployeeNotFoundException} error if there is none
+     */
+    public Mono<EmployeeDTO> getEmployeeById(int id) {
+        return employeeRepository.findById(id)
+                .map(employeeMapper::getEmployeeDTO)
+                .switchIfEmpty(Mono.error(EmployeeNotFoundException::new));
+    }
+
+    /**
+     * Retrieves an employee by their email.
+     *
+     * @param email the email of the employee to retrieve
+     * @return the EmployeeDTO, or an {@link EmployeeNotFoundException} error if there is none
+     */
+    public Mono<EmployeeDTO> getEmployeeByEmail(String email) {
+        return employeeRepository.findByEmail(email)
+                .map(employeeMapper::getEmployeeDTO)
+                .switchIfEmpty(Mono.error(EmployeeNotFoundException::new));
+    }
+
+    /**
+     * Creates a new employee.
+     *
+     * @param employeeDTO the EmployeeDTO representing the employee to create
+     * @return the created EmployeeDTO, or a {@link CannotSaveEmployeeWithNullValuesException} or
+     * {@link EmployeeWithEmailAlreadyExistException} error
+     */
+    public Mono<EmployeeDTO> createEmployee(EmployeeDTO employeeDTO) {
+        Employee employee = employeeMapper.toNewEmployee(employeeDTO);
+        if (employee.getFirstName() == null ||
+                employee.getLastName() == null ||
+                employee.getUsername() == null ||
+                employee.getEmail() == null) {
+            log.error("Employee creation failed due to null values");
+            return Mono.error(new CannotSaveEmployeeWithNullValuesException("Cannot save employee with null values!"));
+        }
+        return employeeRepository.existsByUsernameOrEmail(employee.getUsername(), employee.getEmail())
+                .flatMap(exists -> {
+                    if (exists) {
+                        log.error("Employee creation failed: username or email already exists");
+                        return Mono.<Employee>error(new EmployeeWithEmailAlreadyExistException());
+                    }
+                    return employeeRepository.save(employee);
+                })
+                .onErrorMap(DataIntegrityViolationException.class, e -> {
+                    // A concurrent request inserted the same username or email after the check above
+                    log.error("Employee creation failed: unique constraint violated");
+                    return new EmployeeWithEmailAlreadyExistException();
+                })
+                .map(employeeMapper::getEmployeeDTO);
+    }
+
+    /**
+     * Deletes an employee by their ID.
+     *
+     * @param id the ID of the employee to delete
+     * @return completes when deleted, or fails with {@link EmployeeNotFoundException}
+     */
+    public Mono<Void> deleteEmployee(int id) {
+        return employeeRepository.deleteEmployeeById(id)
+                .flatMap(deleted -> deleted == 0 ? Mono.error(new EmployeeNotFoundException()) : Mono.empty());
+    }
+}
@@ -0,0 +1,63 @@
+package code.with.vanilson.securityservice.reactive;
+
+import code.with.vanilson.securityservice.common.pagination.KeysetPageRequest;
+import code.with.vanilson.securityservice.reactive.exception.InvalidTokenException;
+import code.with.vanilson.securityservice.reactive.security.JwtService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Reads values captured from the servlet service, so a change to either side of the shared formats that breaks
+ * clients moving between the two services fails here.
+ */
+class ServletCompatibilityTest {
+
+    // Next cursor of GET /api/employees?direction=desc whose last row has ID 7
+    private static final String SERVLET_CURSOR = "ZGVzYzo3";
+
+    // Base64 of "servlet-issued-token-fixture-signing-key"
+    private static final String JWT_SECRET = "c2VydmxldC1pc3N1ZWQtdG9rZW4tZml4dHVyZS1zaWduaW5nLWtleQ==";
+
+    // Issued by the servlet JwtService for jane.doe (ROLE_USER, ROLE_ADMIN), expiring in 2100
+    private static final String SERVLET_ACCESS_TOKEN = "eyJhbGciOiJIUzI1NiJ9."
+            + "eyJzdWIiOiJqYW5lLmRvZSIsInRva2VuX3R5cGUiOiJhY2Nlc3MiLCJhdXRob3JpdGllcyI6WyJST0xFX1VTRVIiLCJST0xFX0FE"
+            + "TUlOIl0sImlhdCI6MTc5MjI5NjU1OSwiZXhwIjo0MTAyNDQ0ODAwfQ."
+            + "97LUfMbYb3ZeRa6lMP0yJ-RSmSV-FdNQFYcvY30RgMk";
+
+    // Issued by the servlet JwtService as the refresh token of the same login
+    private static final String SERVLET_REFRESH_TOKEN = "eyJhbGciOiJIUzI1NiJ9."
+            + "eyJzdWIiOiJqYW5lLmRvZSIsInRva2VuX3R5cGUiOiJyZWZyZXNoIiwiaWF0IjoxNzkyMjk2NTY1LCJleHAiOjQxMDI0NDQ4MDB9."
+            + "5JNNC1V7FCV6F1AHan70PtaFaBCiA2pV-jIwQdkh13I";
+
+    @Test
+    @DisplayName("A servlet cursor resumes the same listing here")
+    void testServletCursor() {
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(SERVLET_CURSOR, 20, null);
+
+        Assertions.assertFalse(pageRequest.isAscending());
+        Assertions.assertEquals(7L, pageRequest.afterKey(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("A servlet access token authenticates here with its authorities")
+    void testServletAccessToken() {
+        UsernamePasswordAuthenticationToken authentication = new JwtService(JWT_SECRET)
+                .authenticate(SERVLET_ACCESS_TOKEN);
+
+        Assertions.assertEquals("jane.doe", authentication.getName());
+        Assertions.assertEquals(List.of("ROLE_USER", "ROLE_ADMIN"),
+                authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    @DisplayName("A servlet refresh token is refused here")
+    void testServletRefreshToken() {
+        Assertions.assertThrows(InvalidTokenException.class,
+                () -> new JwtService(JWT_SECRET).authenticate(SERVLET_REFRESH_TOKEN));
+    }
+}
@@ -0,0 +1,214 @@
+package code.with.vanilson.securityservice.reactive.controller;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Runs the reactive employee API against an embedded PostgreSQL migrated with the servlet service's Flyway
+ * scripts, with access tokens signed the way the servlet service signs them.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "security.jwt.secret=" + EmployeeControllerIT.JWT_SECRET
+})
+class EmployeeControllerIT {
+
+    static final String JWT_SECRET = "cmVhY3RpdmUtZW1wbG95ZWUtaXQtc2lnbmluZy1rZXktMzItYnl0ZXM=";
+
+    private static final EmbeddedPostgres POSTGRES = start();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private WebTestClient client;
+
+    @DynamicPropertySource
+    static void r2dbc(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://localhost:" + POSTGRES.getPort() + "/postgres");
+        registry.add("spring.r2dbc.username", () -> "postgres");
+        registry.add("spring.r2dbc.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        POSTGRES.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        client = webTestClient.mutate()
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken("access"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Requests without a valid access token are rejected")
+    void testUnauthenticated() {
+        webTestClient.get().uri("/api/employees").exchange()
+                .expectStatus().isUnauthorized();
+        webTestClient.get().uri("/api/employees")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken("refresh"))
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectHeader().valueEquals(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+    }
+
+    @Test
+    @DisplayName("Pages are walked with the cursor of the previous page")
+    void testGetAllEmployees() {
+        client.get().uri("/api/employees?size=2").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(2)
+                .jsonPath("$.items[0].email").isEqualTo("john.doe@example.com")
+                .jsonPath("$.size").isEqualTo(2);
+        Map<?, ?> firstPage = client.get().uri("/api/employees?size=2").exchange()
+                .expectBody(Map.class)
+                .returnResult().getResponseBody();
+
+        client.get().uri("/api/employees?size=2&cursor={cursor}", firstPage.get("nextCursor")).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].email").isEqualTo("alice.johnson@example.com");
+    }
+
+    @Test
+    @DisplayName("Lookups return the employee or 404")
+    void testGetEmployee() {
+        client.get().uri("/api/employees/email/{email}", "jane.smith@example.com").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.username").isEqualTo("janesmith");
+        client.get().uri("/api/employees/{id}", Integer.MAX_VALUE).exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("Create, reject the duplicate, then delete")
+    void testCreateAndDeleteEmployee() {
+        String username = "reactive-" + UUID.randomUUID();
+        Map<String, String> employee = employee(username, username + "@example.com");
+
+        Map<?, ?> created = client.post().uri("/api/employees").bodyValue(employee).exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult().getResponseBody();
+        Object id = created.get("employeeId");
+        client.post().uri("/api/employees").bodyValue(employee).exchange()
+                .expectStatus().isBadRequest();
+
+        client.delete().uri("/api/employees/{id}", id).exchange()
+                .expectStatus().isNoContent();
+        client.delete().uri("/api/employees/{id}", id).exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Bulk import reports every row, from JSON and from CSV")
+    void testBulkImport() {
+        String prefix = "bulk-" + UUID.randomUUID();
+        List<Map<String, String>> employees = List.of(
+                employee(prefix + "-a", prefix + "-a@example.com"),
+                employee(prefix + "-a", prefix + "-b@example.com"));
+        client.post().uri("/api/employees/bulk").contentType(MediaType.APPLICATION_JSON).bodyValue(employees)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.imported").isEqualTo(1)
+                .jsonPath("$.failed").isEqualTo(1)
+                .jsonPath("$.results[1].error").isEqualTo("Username already exists: " + prefix + "-a");
+
+        String csv = "firstName,lastName,username,email\n"
+                + "C,C," + prefix + "-c," + prefix + "-c@example.com\n"
+                + "D,D," + prefix + "-d,not-an-email\n";
+        client.post().uri("/api/employees/bulk").contentType(MediaType.parseMediaType("text/csv")).bodyValue(csv)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(2)
+                .jsonPath("$.imported").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Bulk import fails a badly typed element and keeps reading")
+    void testBulkImport_BadlyTypedElement() {
+        String prefix = "typed-" + UUID.randomUUID();
+        String body = "[" + "{\"firstName\":\"A\",\"lastName\":\"A\",\"username\":\"" + prefix + "-a\","
+                + "\"email\":\"" + prefix + "-a@example.com\",\"employeeId\":[1]},"
+                + "{\"firstName\":\"B\",\"lastName\":\"B\",\"username\":\"" + prefix + "-b\","
+                + "\"email\":\"" + prefix + "-b@example.com\"}]";
+        client.post().uri("/api/employees/bulk").contentType(MediaType.APPLICATION_JSON).bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.imported").isEqualTo(1)
+                .jsonPath("$.results[0].error").isEqualTo("Invalid value for employeeId")
+                .jsonPath("$.results[1].status").isEqualTo("CREATED");
+    }
+
+    @Test
+    @DisplayName("Export streams one JSON object per line")
+    void testExportEmployees() {
+        client.get().uri("/api/employees/export").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .value(body -> Assertions.assertTrue(body.startsWith("{\"employeeId\":1,")
+                        && body.lines().count() >= 5));
+    }
+
+    private static Map<String, String> employee(String username, String email) {
+        return Map.of("firstName", "Reactive", "lastName", "Test", "username", username, "email", email);
+    }
+
+    private static String accessToken(String tokenType) {
+        return Jwts.builder()
+                .setSubject("user")
+                .claim("token_type", tokenType)
+                .claim("authorities", List.of("ROLE_USER"))
+                .setIssuedAt(new Date())
+                .setExpiration(Date.from(Instant.now().plus(15, ChronoUnit.MINUTES)))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            Flyway.configure()
+                    .dataSource(postgres.getPostgresDatabase())
+                    .locations("filesystem:" + Path.of("..", "service", "src", "main", "resources", "db", "migration"))
+                    .load()
+                    .migrate();
+            return postgres;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start embedded PostgreSQL", e);
+        }
+    }
+}
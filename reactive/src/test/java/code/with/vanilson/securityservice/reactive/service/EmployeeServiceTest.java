@@ -0,0 +1,155 @@
+package code.with.vanilson.securityservice.reactive.service;
+
+import code.with.vanilson.securityservice.common.pagination.InvalidPageRequestException;
+import code.with.vanilson.securityservice.common.pagination.KeysetPageRequest;
+import code.with.vanilson.securityservice.reactive.domain.Employee;
+import code.with.vanilson.securityservice.reactive.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.reactive.exception.EmployeeNotFoundException;
+import code.with.vanilson.securityservice.reactive.exception.EmployeeWithEmailAlreadyExistException;
+import code.with.vanilson.securityservice.reactive.mapper.EmployeeMapper;
+import code.with.vanilson.securityservice.reactive.repository.EmployeeRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeServiceTest {
+    @InjectMocks
+    private EmployeeService employeeService;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Spy
+    private EmployeeMapper employeeMapper;
+
+    private EmployeeDTO employeeDTO;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("John");
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setUsername("johndoe");
+        employeeDTO.setEmail("john.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Create Employee - Success")
+    void testCreateEmployee_Success() {
+        // Mock repository responses
+        when(employeeRepository.existsByUsernameOrEmail("johndoe", "john.doe@example.com"))
+                .thenReturn(Mono.just(false));
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            employee.setEmployeeId(42);
+            return Mono.just(employee);
+        });
+
+        StepVerifier.create(employeeService.createEmployee(employeeDTO))
+                .assertNext(result -> {
+                    Assertions.assertEquals(42, result.getEmployeeId());
+                    Assertions.assertEquals("johndoe", result.getUsername());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Create Employee - Username Or Email Already Exists")
+    void testCreateEmployee_AlreadyExists() {
+        // Mock repository response (username or email taken)
+        when(employeeRepository.existsByUsernameOrEmail("johndoe", "john.doe@example.com"))
+                .thenReturn(Mono.just(true));
+
+        StepVerifier.create(employeeService.createEmployee(employeeDTO))
+                .expectError(EmployeeWithEmailAlreadyExistException.class)
+                .verify();
+
+        // Verify that nothing was saved
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    @DisplayName("Create Employee - Concurrent Insert Of The Same Username")
+    void testCreateEmployee_UniqueConstraintViolated() {
+        // Mock repository responses (check passes, insert hits the unique index)
+        when(employeeRepository.existsByUsernameOrEmail("johndoe", "john.doe@example.com"))
+                .thenReturn(Mono.just(false));
+        when(employeeRepository.save(any(Employee.class)))
+                .thenReturn(Mono.error(new DataIntegrityViolationException("duplicate key")));
+
+        StepVerifier.create(employeeService.createEmployee(employeeDTO))
+                .expectError(EmployeeWithEmailAlreadyExistException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Get Employee By Email - Not Found")
+    void testGetEmployeeByEmail_NotFound() {
+        // Mock repository response
+        when(employeeRepository.findByEmail("missing@example.com")).thenReturn(Mono.empty());
+
+        StepVerifier.create(employeeService.getEmployeeByEmail("missing@example.com"))
+                .expectError(EmployeeNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Get Employees Page - Next Cursor When More Rows Exist")
+    void testGetEmployeesPage_HasNext() {
+        // Mock repository response: one row more than the page size
+        when(employeeRepository.findByEmployeeIdGreaterThan(eq(0), any(Pageable.class))).thenReturn(Flux.just(
+                new Employee(1, "John", "Doe", "johndoe", "john.doe@example.com"),
+                new Employee(2, "Jane", "Smith", "janesmith", "jane.smith@example.com")));
+
+        StepVerifier.create(employeeService.getEmployeesPage(KeysetPageRequest.of(null, 1, null)))
+                .assertNext(page -> {
+                    Assertions.assertEquals(1, page.getItems().size());
+                    Assertions.assertNotNull(page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Get Employees Page - Cursor Key Outside The ID Range")
+    void testGetEmployeesPage_CursorOutOfRange() {
+        // "asc:2147483648", one past the largest employee ID
+        KeysetPageRequest pageRequest = KeysetPageRequest.of("YXNjOjIxNDc0ODM2NDg", 20, null);
+
+        StepVerifier.create(employeeService.getEmployeesPage(pageRequest))
+                .expectError(InvalidPageRequestException.class)
+                .verify();
+
+        // Verify that nothing was queried
+        verify(employeeRepository, never()).findByEmployeeIdGreaterThan(anyInt(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Delete Employee - Not Found")
+    void testDeleteEmployee_NotFound() {
+        // Mock repository response (no row deleted)
+        when(employeeRepository.deleteEmployeeById(99)).thenReturn(Mono.just(0));
+
+        StepVerifier.create(employeeService.deleteEmployee(99))
+                .expectError(EmployeeNotFoundException.class)
+                .verify();
+    }
+}
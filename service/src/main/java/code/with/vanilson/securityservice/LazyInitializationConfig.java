@@ -0,0 +1,28 @@
+package code.with.vanilson.securityservice;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.Filter;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.sql.DataSource;
+
+/**
+ * Beans that stay eager when {@code spring.main.lazy-initialization} is on, as in the {@code fast-start} profile.
+ * Deferring them would only move Flyway, the Hibernate bootstrap, BCrypt calibration and the security filter
+ * chain from startup onto the first request. Everything else, controllers, services and actuator endpoints
+ * included, is created on first use.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, FlywayMigrationInitializer.class,
+                EntityManagerFactory.class, PasswordEncoder.class, SecurityFilterChain.class, Filter.class);
+    }
+}
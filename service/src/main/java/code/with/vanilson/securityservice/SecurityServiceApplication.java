@@ -2,10 +2,8 @@ package code.with.vanilson.securityservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Profile;
 
 @SpringBootApplication
-@Profile(value = "dev")
 public class SecurityServiceApplication {
 
     public static void main(String[] args) {
@@ -1,6 +1,11 @@
 package code.with.vanilson.securityservice.controller;
 
+import code.with.vanilson.securityservice.common.pagination.CursorPage;
+import code.with.vanilson.securityservice.common.pagination.KeysetPageRequest;
 import code.with.vanilson.securityservice.domain.Account;
+import code.with.vanilson.securityservice.dto.AccountDTO;
+import code.with.vanilson.securityservice.logging.LogSummaries;
+import code.with.vanilson.securityservice.persistence.QueryBudget;
 import code.with.vanilson.securityservice.service.impl.AccountServiceImpl;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
@@ -10,7 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.text.MessageFormat;
-import java.util.List;
 
 @Slf4j
 @RestController
@@ -23,29 +27,38 @@ public class AccountController {
         this.accountService = accountService;
     }
 
+    @QueryBudget(2)
     @GetMapping
-    public ResponseEntity<List<Account>> getAllAccounts() {
-        log.info("Get all accounts");
-        return ResponseEntity.ok(accountService.findAll());
+    public ResponseEntity<CursorPage<Account>> getAllAccounts(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "direction", required = false) String direction) {
+        log.debug("Get accounts page");
+        return ResponseEntity.ok(accountService.findPage(KeysetPageRequest.of(cursor, size, direction)));
     }
 
+    @QueryBudget(1)
     @GetMapping("/{username}")
-    public ResponseEntity<Account> getAccountByUsername(@PathVariable(name = "username") String username) {
-        log.info("Get account by username {}", username);
+    public ResponseEntity<AccountDTO> getAccountByUsername(@PathVariable(name = "username") String username) {
+        if (log.isDebugEnabled()) {
+            log.debug("Get account by username {}", LogSummaries.capped(username));
+        }
         return ResponseEntity.ok(accountService.findAccountByUsername(username));
     }
 
+    @QueryBudget(4)
     @PostMapping("/create-account")
     public ResponseEntity<Account> createAccount(@RequestBody @Valid Account account) {
         var accountSaved = accountService.createAccount(account);
-        log.info("Account created: {}", accountSaved);
+        log.info("Account created: id={}", accountSaved.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(accountSaved);
     }
 
+    @QueryBudget(3)
     @DeleteMapping(value = "/delete/{id}")
     public ResponseEntity<?> deleteAccount(@PathVariable(name = "id") long id) {
         accountService.deleteAccount(id);
-        log.info("DELETE employee by ID: {}", id);
+        log.info("DELETE account by ID: {}", id);
         return ResponseEntity.ok().body(MessageFormat.format("DELETE employee by ID{0}", id));
     }
 
@@ -0,0 +1,81 @@
+package code.with.vanilson.securityservice.controller;
+
+import code.with.vanilson.securityservice.common.security.TokenType;
+import code.with.vanilson.securityservice.dto.LoginRequest;
+import code.with.vanilson.securityservice.dto.RefreshTokenRequest;
+import code.with.vanilson.securityservice.dto.TokenResponse;
+import code.with.vanilson.securityservice.security.JwtService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping(path = "/api/accounts")
+public class AuthenticationController {
+    private static final String TOKEN_TYPE = "Bearer";
+
+    private final AuthenticationManager authenticationManager;
+    private final UserDetailsService userDetailsService;
+    private final JwtService jwtService;
+    private final AccountStatusUserDetailsChecker accountStatusChecker = new AccountStatusUserDetailsChecker();
+
+    @Autowired
+    public AuthenticationController(AuthenticationManager authenticationManager,
+                                    UserDetailsService userDetailsService,
+                                    JwtService jwtService) {
+        this.authenticationManager = authenticationManager;
+        this.userDetailsService = userDetailsService;
+        this.jwtService = jwtService;
+    }
+
+    /**
+     * Verifies the username and password once and issues an access and a refresh token.
+     *
+     * @param loginRequest the account credentials
+     * @return the issued tokens
+     */
+    @PostMapping("/login")
+    public ResponseEntity<TokenResponse> login(@RequestBody @Valid LoginRequest loginRequest) {
+        var authentication = authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(loginRequest.getUsername(),
+                        loginRequest.getPassword()));
+        log.info("Login succeeded for {}", authentication.getName());
+        return ResponseEntity.ok(issueTokens((UserDetails) authentication.getPrincipal()));
+    }
+
+    /**
+     * Exchanges a refresh token for a new token pair. The account is re-read so that disabled or locked
+     * accounts cannot keep refreshing.
+     *
+     * @param refreshTokenRequest the refresh token issued at login
+     * @return the issued tokens
+     */
+    @PostMapping("/refresh-token")
+    public ResponseEntity<TokenResponse> refreshToken(@RequestBody @Valid RefreshTokenRequest refreshTokenRequest) {
+        var claims = jwtService.parse(refreshTokenRequest.getRefreshToken(), TokenType.REFRESH);
+        var userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        accountStatusChecker.check(userDetails);
+        log.info("Refreshed tokens for {}", userDetails.getUsername());
+        return ResponseEntity.ok(issueTokens(userDetails));
+    }
+
+    private TokenResponse issueTokens(UserDetails userDetails) {
+        return TokenResponse.builder()
+                .accessToken(jwtService.issueAccessToken(userDetails))
+                .refreshToken(jwtService.issueRefreshToken(userDetails))
+                .tokenType(TOKEN_TYPE)
+                .expiresIn(jwtService.getAccessTokenTtlSeconds())
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package code.with.vanilson.securityservice.controller;
+
+import code.with.vanilson.securityservice.common.bulkimport.BulkImportReport;
+import code.with.vanilson.securityservice.common.pagination.CursorPage;
+import code.with.vanilson.securityservice.common.pagination.KeysetPageRequest;
+import code.with.vanilson.securityservice.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.persistence.QueryBudget;
+import code.with.vanilson.securityservice.service.EmployeeBulkImportService;
+import code.with.vanilson.securityservice.service.EmployeeExportService;
+import code.with.vanilson.securityservice.service.EmployeeService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/employees")
+@Slf4j
+public class EmployeeController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    // Per import chunk: two uniqueness lookups, then a sequence call and a batched insert per 50 rows
+    static final int BULK_IMPORT_CHUNK_QUERY_BUDGET = 22;
+
+    private final EmployeeService employeeService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeBulkImportService employeeBulkImportService;
+
+    public EmployeeController(EmployeeService employeeService, EmployeeExportService employeeExportService,
+                              EmployeeBulkImportService employeeBulkImportService) {
+        this.employeeService = employeeService;
+        this.employeeExportService = employeeExportService;
+        this.employeeBulkImportService = employeeBulkImportService;
+    }
+
+    /**
+     * Retrieves one page of employees ordered by ID.
+     *
+     * @param cursor    the opaque cursor returned with the previous page; omit for the first page
+     * @param size      the page size, capped at {@value KeysetPageRequest#MAX_PAGE_SIZE}
+     * @param direction {@code asc} (default) or {@code desc}
+     * @return a page of EmployeeDTO with the cursor of the next page
+     */
+    @QueryBudget(1)
+    @GetMapping
+    public ResponseEntity<CursorPage<EmployeeDTO>> getAllEmployees(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "direction", required = false) String direction) {
+        CursorPage<EmployeeDTO> employees = employeeService.getEmployeesPage(
+                KeysetPageRequest.of(cursor, size, direction));
+        log.debug("GET employees page");
+        return ResponseEntity.ok(employees);
+    }
+
+    /**
+     * Exports all employees as newline-delimited JSON, streamed from the database without loading the
+     * whole table. The single cursor query runs while the body is written, after the request thread returns.
+     *
+     * @return the streaming NDJSON body
+     */
+    @QueryBudget(0)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        log.info("GET employees export");
+        StreamingResponseBody body = employeeExportService::exportEmployees;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Retrieves an employee by their ID.
+     *
+     * @param id the ID of the employee to retrieve
+     * @return the EmployeeDTO representing the employee
+     */
+    @QueryBudget(1)
+    @GetMapping("/{id}")
+    public ResponseEntity<Optional<EmployeeDTO>> getEmployeeById(@PathVariable int id) {
+        log.debug("GET employee by ID: {}", id);
+        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+    }
+
+    /**
+     * Retrieves an employee by their email.
+     *
+     * @param email the email of the employee to retrieve
+     * @return the EmployeeDTO representing the employee
+     */
+    @QueryBudget(1)
+    @GetMapping("/email/{email}")
+    public ResponseEntity<Optional<EmployeeDTO>> getEmployeeByEmail(@PathVariable String email) {
+        log.debug("GET employee by email");
+        return ResponseEntity.ok(employeeService.getEmployeeByEmail(email));
+    }
+
+    /**
+     * Creates a new employee.
+     *
+     * @param employeeDTO the EmployeeDTO representing the employee to create
+     * @return the created EmployeeDTO
+     * @throws IllegalArgumentException if the username or email is not unique
+     */
+    @QueryBudget(3)
+    @PostMapping
+    public ResponseEntity<EmployeeDTO> createEmployee(@RequestBody @Valid EmployeeDTO employeeDTO) {
+        EmployeeDTO createdEmployee = employeeService.createEmployee(employeeDTO);
+        log.info("POST create employee: id={}", createdEmployee.getEmployeeId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
+    }
+
+    /**
+     * Creates employees in bulk from a JSON array of EmployeeDTO.
+     *
+     * @param body the request body, read incrementally
+     * @return the per-row import report
+     * @throws IOException if the body cannot be read
+     */
+    @QueryBudget(value = 0, perUnit = BULK_IMPORT_CHUNK_QUERY_BUDGET)
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportReport> importEmployees(InputStream body) throws IOException {
+        BulkImportReport report = employeeBulkImportService.importJson(body);
+        log.info("POST bulk import employees: {} imported, {} failed", report.getImported(), report.getFailed());
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Creates employees in bulk from a CSV stream with the header {@code firstName,lastName,username,email}.
+     *
+     * @param body the request body, read incrementally
+     * @return the per-row import report
+     * @throws IOException if the body cannot be read
+     */
+    @QueryBudget(value = 0, perUnit = BULK_IMPORT_CHUNK_QUERY_BUDGET)
+    @PostMapping(value = "/bulk", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<BulkImportReport> importEmployeesCsv(InputStream body) throws IOException {
+        BulkImportReport report = employeeBulkImportService.importCsv(body);
+        log.info("POST bulk import employees (CSV): {} imported, {} failed", report.getImported(), report.getFailed());
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Deletes an employee by their ID.
+     *
+     * @param id the ID of the employee to delete
+     */
+    @QueryBudget(2)
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteEmployee(@PathVariable Integer id) {
+        employeeService.deleteEmployee(id);
+        log.info("DELETE employee by ID: {}", id);
+        return ResponseEntity.noContent().build();
+    }
+}
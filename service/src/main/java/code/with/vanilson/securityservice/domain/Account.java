@@ -3,13 +3,24 @@ package code.with.vanilson.securityservice.domain;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Set;
 
 import static com.fasterxml.jackson.annotation.JsonProperty.Access.*;
 
+/**
+ * A login account. Roles are loaded lazily; repository methods that need them declare the
+ * {@value #WITH_ROLES} fetch plan, and list views batch-fetch them for a whole page at once. Accounts and their
+ * role sets are kept in the second-level cache.
+ */
 @Entity
 @Table(name = "accounts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraph(name = Account.WITH_ROLES, attributeNodes = @NamedAttributeNode("roles"))
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode
@@ -18,9 +29,11 @@ import static com.fasterxml.jackson.annotation.JsonProperty.Access.*;
 @Getter
 @Setter
 public class Account {
+    public static final String WITH_ROLES = "Account.withRoles";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_id_seq")
-    @SequenceGenerator(name = "account_id_seq", sequenceName = "account_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "account_id_seq", sequenceName = "account_id_seq", allocationSize = 50)
     @Column(name = "account_id")
     private Long id;
 
@@ -39,12 +52,17 @@ public class Account {
     @Column(name = "credential_expired")
     private boolean credentialExpired = false;
 
-    @ManyToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    // Roles are shared reference data: never cascaded, and loaded for up to one page of accounts per query
+    @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
             name = "AccountRole",
             joinColumns = @JoinColumn(name = "accountId", referencedColumnName = "account_id"),
             inverseJoinColumns = @JoinColumn(name = "roleId", referencedColumnName = "role_id")
     )
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Set<Role> roles;
 }
 
@@ -0,0 +1,34 @@
+package code.with.vanilson.securityservice.domain;
+
+import lombok.*;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * A role. Roles are reference data that is only ever inserted, so they are held in the second-level cache as
+ * read-only.
+ */
+@Entity
+@Table(name = "roles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Builder
+@ToString
+@Getter
+@Setter
+public class Role {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "role_id_seq")
+    @SequenceGenerator(name = "role_id_seq", sequenceName = "role_id_seq", allocationSize = 1)
+    @Column(name = "role_id")
+    private Long roleId;
+    private String name;
+    private String code;
+
+}
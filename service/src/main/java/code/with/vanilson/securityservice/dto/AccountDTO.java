@@ -1,20 +1,27 @@
 package code.with.vanilson.securityservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.Set;
 
+import static com.fasterxml.jackson.annotation.JsonProperty.Access.WRITE_ONLY;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class AccountDTO {
     private Long id;
+    @JsonProperty("username")
     private String userName;
-    private String password;
+    @JsonProperty(access = WRITE_ONLY)
+    @ToString.Exclude
+    private String password; // accepted on writes only, never populated by the read mapping
     private boolean enabled;
     private boolean locked;
     private boolean expired;
@@ -1,9 +1,13 @@
 package code.with.vanilson.securityservice.dto;
 
 import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class EmployeeDTO {
     private int employeeId;
     @NotNull(message = "first name is required")
@@ -0,0 +1,18 @@
+package code.with.vanilson.securityservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginRequest {
+    @NotBlank(message = "username is required")
+    private String username;
+    @NotBlank(message = "password is required")
+    @ToString.Exclude
+    private String password;
+}
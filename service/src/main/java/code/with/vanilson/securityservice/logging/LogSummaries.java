@@ -0,0 +1,57 @@
+package code.with.vanilson.securityservice.logging;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Size-capped renderings for log arguments, so a log line costs the same whether a collection holds ten rows
+ * or ten thousand and whatever a client put in a path variable.
+ */
+public final class LogSummaries {
+
+    public static final int MAX_IDS = 10;
+    public static final int MAX_VALUE_LENGTH = 64;
+
+    private LogSummaries() {
+    }
+
+    /**
+     * Renders the IDs of at most {@value #MAX_IDS} elements, e.g. {@code [1, 2, 3, ... +97 more]}.
+     *
+     * @param elements the elements to summarise
+     * @param id       reads the ID of an element
+     * @return the summary
+     */
+    public static <T> String ids(Collection<T> elements, Function<T, ?> id) {
+        var summary = new StringBuilder("[");
+        Iterator<T> iterator = elements.iterator();
+        for (int i = 0; i < MAX_IDS && iterator.hasNext(); i++) {
+            if (i > 0) {
+                summary.append(", ");
+            }
+            summary.append(id.apply(iterator.next()));
+        }
+        if (elements.size() > MAX_IDS) {
+            summary.append(", ... +").append(elements.size() - MAX_IDS).append(" more");
+        }
+        return summary.append(']').toString();
+    }
+
+    /**
+     * Cuts a client-supplied value to {@value #MAX_VALUE_LENGTH} characters and strips line breaks, so it can
+     * neither bloat nor forge log lines.
+     *
+     * @param value the value, may be {@code null}
+     * @return the capped value
+     */
+    public static String capped(String value) {
+        if (value == null) {
+            return null;
+        }
+        String singleLine = value.replace('\r', '_').replace('\n', '_');
+        return singleLine.length() <= MAX_VALUE_LENGTH
+                ? singleLine
+                : singleLine.substring(0, MAX_VALUE_LENGTH) + "...(" + singleLine.length() + " chars)";
+    }
+}
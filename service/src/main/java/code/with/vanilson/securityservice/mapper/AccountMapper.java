@@ -5,11 +5,14 @@ import code.with.vanilson.securityservice.domain.Role;
 import code.with.vanilson.securityservice.dto.AccountDTO;
 import code.with.vanilson.securityservice.dto.RoleDTO;
 import code.with.vanilson.securityservice.exception.AccountCanNotBeNullException;
+import code.with.vanilson.securityservice.repository.projection.AccountRoleRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -18,6 +21,13 @@ public class AccountMapper {
 
     private final PasswordEncoder passwordEncoder;
 
+    /**
+     * Maps an {@link Account} to an {@link AccountDTO} for the read path. The password is never copied,
+     * so mapping runs no password hashing and the DTO carries no credential material.
+     *
+     * @param account the account to map
+     * @return the mapped DTO, without password
+     */
     public AccountDTO toAccountDTO(Account account) {
         if (account == null) {
             throw new AccountCanNotBeNullException("Account cannot be null");
@@ -25,23 +35,42 @@ public class AccountMapper {
         return AccountDTO.builder()
                 .id(account.getId())
                 .userName(account.getUsername())
-                .password(passwordEncoder.encode(account.getPassword()))
                 .enabled(account.isEnabled())
                 .locked(account.isLocked())
                 .expired(account.isExpired())
                 .credentialExpired(account.isCredentialExpired())
                 .roles(account.getRoles()
                         .stream()
-                        .map(role -> {
-                            new RoleDTO();
-                            return RoleDTO
-                                    .builder()
-                                    .roleId(role.getRoleId())
-                                    .name(role.getName())
-                                    .code(role.getCode())
-                                    .build();
+                        .map(this::toRoleDTO)
+                        .collect(Collectors.toSet()))
+                .build();
+    }
 
-                        }).collect(Collectors.toSet()))
+    /**
+     * Folds the rows of one account, one per role, into an {@link AccountDTO}.
+     *
+     * @param rows the account's rows, as returned by {@code AccountRepository.findAccountRowsByUsername}
+     * @return the mapped DTO, without password
+     */
+    public AccountDTO fromAccountRows(List<AccountRoleRow> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new AccountCanNotBeNullException("Account cannot be null");
+        }
+        AccountRoleRow account = rows.get(0);
+        Set<RoleDTO> roles = new HashSet<>();
+        for (AccountRoleRow row : rows) {
+            if (row.roleId() != null) {
+                roles.add(new RoleDTO(row.roleId(), row.roleName(), row.roleCode()));
+            }
+        }
+        return AccountDTO.builder()
+                .id(account.id())
+                .userName(account.username())
+                .enabled(account.enabled())
+                .locked(account.locked())
+                .expired(account.expired())
+                .credentialExpired(account.credentialExpired())
+                .roles(roles)
                 .build();
     }
 
@@ -62,24 +62,6 @@ public class EmployeeMapper {
         return employeeDTO;
     }
 
-    /**
-     * Checks if an {@link Employee} entity is valid for saving based on uniqueness constraints.
-     *
-     * @param employee          The {@link Employee} entity to be validated.
-     * @param existingEmployees The list of existing {@link Employee} entities to check against.
-     * @return {@code true} if the employee is valid for saving (i.e., username and email are unique), {@code false} otherwise.
-     */
-    public boolean isEmployeeValidForSave(Employee employee, List<Employee> existingEmployees) {
-        // Check if the username and email are unique
-        boolean isUsernameUnique = existingEmployees.stream()
-                .noneMatch(e -> e.getUsername().equals(employee.getUsername()));
-        boolean isEmailUnique = existingEmployees.stream()
-                .noneMatch(e -> e.getEmail().equals(employee.getEmail()));
-
-        // Additional checks for the uniqueness of other fields like firstName and lastName can be added similarly
-        return isUsernameUnique && isEmailUnique;
-    }
-
     /**
      * Convert DTO to entity
      *
@@ -0,0 +1,25 @@
+package code.with.vanilson.securityservice.pagination;
+
+import code.with.vanilson.securityservice.common.pagination.KeysetPageRequest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Turns a {@link KeysetPageRequest} into the Spring Data pageable of its repository query.
+ */
+public final class KeysetPageable {
+
+    private KeysetPageable() {
+    }
+
+    /**
+     * @param pageRequest the keyset page to fetch
+     * @param keyProperty the entity property holding the primary key
+     * @return a limit-only pageable that fetches one row more than the page size to detect a next page
+     */
+    public static Pageable of(KeysetPageRequest pageRequest, String keyProperty) {
+        Sort.Direction direction = pageRequest.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return PageRequest.of(0, pageRequest.fetchSize(), Sort.by(direction, keyProperty));
+    }
+}
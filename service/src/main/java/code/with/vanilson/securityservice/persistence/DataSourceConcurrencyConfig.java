@@ -0,0 +1,65 @@
+package code.with.vanilson.securityservice.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * In virtual-thread mode, wraps the HikariCP pool in a {@link ConcurrencyLimitedDataSource} sized to the pool,
+ * so virtual threads queue in front of the pool instead of inside it. On platform threads Tomcat's worker pool
+ * already bounds the callers, so the pool is left as is and they wait up to HikariCP's
+ * {@code connection-timeout}.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class DataSourceConcurrencyConfig {
+
+    static final String VIRTUAL_THREADS_PROPERTY = "spring.threads.virtual.enabled";
+
+    @Bean
+    @ConditionalOnProperty(name = VIRTUAL_THREADS_PROPERTY, havingValue = "true")
+    static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            @Value("${datasource-fence.acquire-timeout:5s}") Duration acquireTimeout,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                return fence(hikari, acquireTimeout, meterRegistry);
+            }
+        };
+    }
+
+    /**
+     * Fences one pool and registers its gauges, tagged with the pool name.
+     */
+    static ConcurrencyLimitedDataSource fence(HikariDataSource hikari, Duration acquireTimeout,
+                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        int maxConnections = hikari.getMaximumPoolSize();
+        var fenced = new ConcurrencyLimitedDataSource(hikari, maxConnections, acquireTimeout);
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("datasource.fence.active", fenced, ConcurrencyLimitedDataSource::getActiveConnections)
+                    .description("Connections borrowed through the concurrency fence")
+                    .tag("pool", String.valueOf(hikari.getPoolName()))
+                    .register(registry);
+            Gauge.builder("datasource.fence.pending", fenced, ConcurrencyLimitedDataSource::getPendingConnections)
+                    .description("Callers waiting at the concurrency fence for a connection")
+                    .tag("pool", String.valueOf(hikari.getPoolName()))
+                    .register(registry);
+        });
+        log.info("DataSource {} fenced at {} concurrent connections, acquire timeout {}",
+                hikari.getPoolName(), maxConnections, acquireTimeout);
+        return fenced;
+    }
+}
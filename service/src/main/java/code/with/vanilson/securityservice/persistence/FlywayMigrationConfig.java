@@ -0,0 +1,29 @@
+package code.with.vanilson.securityservice.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Migrates on startup, except in the CDS training run of the {@code Dockerfile}, which starts without a database
+ * ({@code startup.training-run}). The property is read at runtime rather than through a bean condition, so it
+ * also holds when bean conditions were fixed by AOT processing.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class FlywayMigrationConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${startup.training-run:false}") boolean trainingRun) {
+        return flyway -> {
+            if (trainingRun) {
+                log.info("Training run: skipping Flyway migration");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+}
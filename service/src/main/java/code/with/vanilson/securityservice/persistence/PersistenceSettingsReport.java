@@ -0,0 +1,98 @@
+package code.with.vanilson.securityservice.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Logs the effective connection pool, PostgreSQL driver and Hibernate batching settings once the application is
+ * ready, so operators can check what a profile such as {@code prod} actually resolved to. Values are read from
+ * the running pool and session factory, not from configuration.
+ */
+@Slf4j
+@Component
+public class PersistenceSettingsReport {
+
+    /**
+     * Driver properties worth reporting; anything else in {@code data-source-properties} may hold credentials.
+     */
+    static final List<String> DRIVER_PROPERTIES = List.of(
+            "prepareThreshold", "preparedStatementCacheQueries", "preparedStatementCacheSizeMiB",
+            "reWriteBatchedInserts");
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public PersistenceSettingsReport(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        lines().forEach(log::info);
+    }
+
+    List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        HikariDataSource pool = pool();
+        if (pool == null) {
+            lines.add("Connection pool: not HikariCP, settings not reported");
+        } else {
+            lines.add(poolSettings(pool));
+            lines.add(driverSettings(pool.getDataSourceProperties()));
+        }
+        lines.add(batchSettings(entityManagerFactory.unwrap(SessionFactoryImplementor.class)));
+        return lines;
+    }
+
+    /**
+     * The pool sits behind the connection fence, and with read replicas also behind the routing proxy; outside a
+     * transaction both unwrap to the primary.
+     */
+    private HikariDataSource pool() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static String poolSettings(HikariDataSource pool) {
+        return "Connection pool " + pool.getPoolName()
+                + ": maximumPoolSize=" + pool.getMaximumPoolSize()
+                + ", minimumIdle=" + pool.getMinimumIdle()
+                + ", connectionTimeout=" + pool.getConnectionTimeout() + "ms"
+                + ", maxLifetime=" + pool.getMaxLifetime() + "ms"
+                + ", keepaliveTime=" + pool.getKeepaliveTime() + "ms";
+    }
+
+    private static String driverSettings(Properties properties) {
+        StringBuilder line = new StringBuilder("JDBC driver:");
+        for (String name : DRIVER_PROPERTIES) {
+            line.append(' ').append(name).append('=').append(properties.getProperty(name, "default"));
+        }
+        return line.toString();
+    }
+
+    private static String batchSettings(SessionFactoryImplementor sessionFactory) {
+        SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+        return "Hibernate: jdbc.batch_size=" + options.getJdbcBatchSize()
+                + ", batch_versioned_data=" + options.isJdbcBatchVersionedData()
+                + ", order_inserts=" + options.isOrderInsertsEnabled()
+                + ", order_updates=" + options.isOrderUpdatesEnabled()
+                + ", in_clause_parameter_padding=" + options.inClauseParameterPaddingEnabled()
+                + ", show_sql=" + sessionFactory.getJdbcServices().getSqlStatementLogger().isLogToStdout();
+    }
+}
@@ -0,0 +1,29 @@
+package code.with.vanilson.securityservice.persistence;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The most SQL statements a controller method may run per request. Methods without it get
+ * {@code query-budget.default}. Requests over budget are logged and counted as
+ * {@code query.budget.exceeded}; integration tests assert every endpoint stays within its budget.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * Statements allowed per request, whatever its size.
+     */
+    int value();
+
+    /**
+     * Statements allowed on top of {@link #value()} for each unit of work the request reports through
+     * {@link QueryCounter#unitCompleted()}, for endpoints whose statement count grows with the request body.
+     */
+    int perUnit() default 0;
+}
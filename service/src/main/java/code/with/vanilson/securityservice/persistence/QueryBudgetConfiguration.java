@@ -0,0 +1,37 @@
+package code.with.vanilson.securityservice.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Wires statement counting into Hibernate and the per-request {@link QueryBudget} check into Spring MVC.
+ */
+@Configuration
+public class QueryBudgetConfiguration implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+
+    public QueryBudgetConfiguration(MeterRegistry meterRegistry,
+                                    @Value("${query-budget.default:10}") int defaultBudget) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                new QueryCountingStatementInspector());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor(meterRegistry, defaultBudget));
+    }
+}
@@ -0,0 +1,79 @@
+package code.with.vanilson.securityservice.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Counts the statements each controller method runs and compares them with its {@link QueryBudget}.
+ * <p>
+ * Every request records {@code http.server.requests.queries}; requests over budget also increment
+ * {@code query.budget.exceeded} and log a warning, both tagged with the controller and method. The outcome
+ * is left on the request as {@link #RESULT_ATTRIBUTE} for tests. Only the initial dispatch is checked: work
+ * done after an asynchronous handover, such as writing a streamed body, runs on another thread and is not
+ * counted, and error dispatches are not checked a second time.
+ */
+@Slf4j
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String RESULT_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".result";
+
+    /**
+     * Statements run by one request and the budget they were held against, including any per-unit allowance.
+     */
+    public record Result(int queries, int budget) {
+        public boolean exceeded() {
+            return queries > budget;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+
+    public QueryBudgetInterceptor(MeterRegistry meterRegistry, int defaultBudget) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getDispatcherType() == DispatcherType.REQUEST) {
+            QueryCounter.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        QueryCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return;
+        }
+        QueryBudget annotation = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        QueryCounter.Count count = QueryCounter.stopCount();
+        int budget = annotation != null ? annotation.value() + annotation.perUnit() * count.units() : defaultBudget;
+        var result = new Result(count.queries(), budget);
+        request.setAttribute(RESULT_ATTRIBUTE, result);
+
+        Tags tags = Tags.of("controller", handlerMethod.getBeanType().getSimpleName(),
+                "method", handlerMethod.getMethod().getName());
+        meterRegistry.summary("http.server.requests.queries", tags).record(result.queries());
+        if (result.exceeded()) {
+            meterRegistry.counter("query.budget.exceeded", tags).increment();
+            log.warn("{} {} ran {} SQL statements, budget is {}", request.getMethod(), request.getRequestURI(),
+                    result.queries(), result.budget());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package code.with.vanilson.securityservice.persistence;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and
+ * {@link #stop()}, along with the units of work the handler reports through {@link #unitCompleted()}.
+ * Statements and units on threads without an active count are ignored.
+ */
+public final class QueryCounter {
+
+    /**
+     * Statements and units of work counted on one thread.
+     */
+    public record Count(int queries, int units) {
+    }
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Starts a new count on the current thread, discarding any count in progress.
+     */
+    public static void start() {
+        COUNT.set(new int[2]);
+    }
+
+    /**
+     * Ends the count on the current thread.
+     *
+     * @return the number of statements since {@link #start()}, or 0 if no count was active
+     */
+    public static int stop() {
+        return stopCount().queries();
+    }
+
+    /**
+     * Ends the count on the current thread.
+     *
+     * @return the statements and units of work since {@link #start()}, or zeros if no count was active
+     */
+    public static Count stopCount() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? new Count(0, 0) : new Count(count[0], count[1]);
+    }
+
+    /**
+     * Records one unit of work, such as an import chunk, for handlers whose {@link QueryBudget#perUnit()}
+     * grows with the size of the request.
+     */
+    public static void unitCompleted() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[1]++;
+        }
+    }
+
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
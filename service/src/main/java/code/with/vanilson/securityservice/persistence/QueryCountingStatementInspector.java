@@ -0,0 +1,16 @@
+package code.with.vanilson.securityservice.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Feeds every statement Hibernate prepares into the {@link QueryCounter} of the current thread. A batched
+ * insert or update counts once per prepared statement, not once per row.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.increment();
+        return sql;
+    }
+}
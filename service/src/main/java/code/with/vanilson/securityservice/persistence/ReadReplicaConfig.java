@@ -0,0 +1,145 @@
+package code.with.vanilson.securityservice.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes read-only transactions to read replicas when {@code datasource-routing.enabled} is set.
+ * <p>
+ * The auto-configured HikariCP pool stays the primary. Each replica gets its own read-only pool and
+ * concurrency fence, and the primary bean is replaced by a {@link LazyConnectionDataSourceProxy} over a
+ * {@link ReadWriteRoutingDataSource}. Everything outside a read-only transaction, Flyway included, uses the
+ * primary.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * Replica settings. Username, password and pool size default to the primary's.
+     */
+    public record Replica(String url, String username, String password, Integer maximumPoolSize) {
+    }
+
+    public record RoutingProperties(Duration retryInterval, Duration connectionTimeout, List<Replica> replicas) {
+    }
+
+    @Bean
+    static BeanPostProcessor readWriteRoutingDataSourcePostProcessor(Environment environment,
+                                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        RoutingProperties properties = Binder.get(environment)
+                .bind("datasource-routing", RoutingProperties.class)
+                .orElseGet(() -> new RoutingProperties(null, null, List.of()));
+        Duration acquireTimeout = Binder.get(environment)
+                .bind("datasource-fence.acquire-timeout", Duration.class)
+                .orElse(Duration.ofSeconds(5));
+        boolean fenced = environment.getProperty(DataSourceConcurrencyConfig.VIRTUAL_THREADS_PROPERTY,
+                Boolean.class, false);
+        return new RoutingPostProcessor(properties, fenced ? acquireTimeout : null, meterRegistry);
+    }
+
+    /**
+     * Runs before the fence post-processor, which then leaves the routing proxy alone; in virtual-thread mode the
+     * pools are fenced here instead.
+     */
+    private static final class RoutingPostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+        private final RoutingProperties properties;
+        private final Duration acquireTimeout; // null on platform threads, where pools are not fenced
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final List<HikariDataSource> pools = new ArrayList<>();
+
+        private RoutingPostProcessor(RoutingProperties properties, Duration acquireTimeout,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+            this.properties = properties;
+            this.acquireTimeout = acquireTimeout;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof HikariDataSource primary)) {
+                return bean;
+            }
+            pools.add(primary);
+            List<DataSource> replicas = new ArrayList<>();
+            List<Replica> configured = properties.replicas() != null ? properties.replicas() : List.of();
+            for (int i = 0; i < configured.size(); i++) {
+                HikariDataSource pool = replicaPool(primary, configured.get(i), "replica-" + i);
+                pools.add(pool);
+                replicas.add(fence(pool));
+            }
+            Duration retryInterval = properties.retryInterval() != null
+                    ? properties.retryInterval() : Duration.ofSeconds(30);
+            var routing = new ReadWriteRoutingDataSource(fence(primary), replicas, retryInterval);
+            meterRegistry.ifAvailable(registry -> {
+                Gauge.builder("datasource.replicas.healthy", routing, ReadWriteRoutingDataSource::getHealthyReplicas)
+                        .description("Read replicas currently receiving read-only transactions")
+                        .register(registry);
+                FunctionCounter.builder("datasource.replicas.fallback", routing,
+                                ReadWriteRoutingDataSource::getPrimaryFallbacks)
+                        .description("Read-only connections served by the primary because no replica was healthy")
+                        .register(registry);
+            });
+            log.info("DataSource {} routes read-only transactions to {} replica(s)", beanName, replicas.size());
+            return new LazyConnectionDataSourceProxy(routing);
+        }
+
+        private DataSource fence(HikariDataSource pool) {
+            return acquireTimeout == null
+                    ? pool
+                    : DataSourceConcurrencyConfig.fence(pool, acquireTimeout, meterRegistry);
+        }
+
+        private HikariDataSource replicaPool(HikariDataSource primary, Replica replica, String poolName) {
+            var pool = new HikariDataSource();
+            pool.setPoolName(poolName);
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username() != null ? replica.username() : primary.getUsername());
+            pool.setPassword(replica.password() != null ? replica.password() : primary.getPassword());
+            pool.setDriverClassName(primary.getDriverClassName());
+            pool.setMaximumPoolSize(replica.maximumPoolSize() != null
+                    ? replica.maximumPoolSize() : primary.getMaximumPoolSize());
+            pool.setMaxLifetime(primary.getMaxLifetime());
+            pool.setKeepaliveTime(primary.getKeepaliveTime());
+            pool.setDataSourceProperties(primary.getDataSourceProperties()); // same driver tuning as the primary
+            pool.setReadOnly(true);
+            if (properties.connectionTimeout() != null) {
+                pool.setConnectionTimeout(properties.connectionTimeout().toMillis());
+            }
+            pool.setInitializationFailTimeout(-1); // start even while a replica is down
+            return pool;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        /**
+         * The pools are hidden behind the routing proxy, so the container cannot infer their close method.
+         */
+        @Override
+        public void destroy() {
+            pools.forEach(HikariDataSource::close);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package code.with.vanilson.securityservice.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends connections of read-only transactions to the replicas, round-robin, and everything else to the
+ * primary.
+ * <p>
+ * A replica that fails to hand out a connection is skipped for {@code retryInterval} and the connection is
+ * taken from the next healthy replica, or from the primary once none is left; callers never see a replica
+ * outage. The routing decision reads the transaction's read-only flag, which Spring sets only after the
+ * transaction has begun, so this data source must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers the connection to the
+ * first statement.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration retryInterval;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration retryInterval) {
+        this.primary = primary;
+        this.retryInterval = retryInterval;
+        this.replicas = new ArrayList<>(replicas.size());
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            var replica = new Replica("replica-" + i, replicas.get(i));
+            this.replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * @return the next healthy replica for a read-only transaction, otherwise {@value #PRIMARY}
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        long now = System.nanoTime();
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+            if (replica.isHealthy(now)) {
+                return replica.key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Object key = determineCurrentLookupKey();
+            if (PRIMARY.equals(key)) {
+                break;
+            }
+            Replica replica = replica(key);
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.markDown(System.nanoTime() + retryInterval.toNanos());
+                log.warn("Read replica {} unavailable, skipping it for {}: {}", key, retryInterval, e.getMessage());
+            }
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !replicas.isEmpty()) {
+            fallbacks.incrementAndGet();
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * @return the number of replicas currently considered healthy
+     */
+    public int getHealthyReplicas() {
+        long now = System.nanoTime();
+        return (int) replicas.stream().filter(replica -> replica.isHealthy(now)).count();
+    }
+
+    /**
+     * @return the number of read-only connections served by the primary because no replica was healthy
+     */
+    public long getPrimaryFallbacks() {
+        return fallbacks.get();
+    }
+
+    private Replica replica(Object key) {
+        for (Replica replica : replicas) {
+            if (replica.key.equals(key)) {
+                return replica;
+            }
+        }
+        throw new IllegalStateException("Unknown replica " + key);
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile long downUntilNanos;
+        private volatile boolean down;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+
+        boolean isHealthy(long now) {
+            return !down || now - downUntilNanos >= 0;
+        }
+
+        void markDown(long untilNanos) {
+            downUntilNanos = untilNanos;
+            down = true;
+        }
+    }
+}
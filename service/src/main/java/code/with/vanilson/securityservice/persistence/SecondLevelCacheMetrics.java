@@ -0,0 +1,50 @@
+package code.with.vanilson.securityservice.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the hit ratio of every Hibernate second-level cache region as
+ * {@code hibernate.second.level.cache.hit.ratio}, tagged with the region, and of the query cache as
+ * {@code hibernate.query.cache.hit.ratio}. Ratios are cumulative since startup and {@code NaN} before the first
+ * lookup. Requires {@code hibernate.generate_statistics}.
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics,
+                            stats -> regionHitRatio(stats.getCacheRegionStatistics(region)))
+                    .description("Share of second-level cache lookups answered from the cache")
+                    .tag("region", region)
+                    .register(registry);
+        }
+        Gauge.builder("hibernate.query.cache.hit.ratio", statistics,
+                        stats -> hitRatio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()))
+                .description("Share of cacheable queries answered from the query cache")
+                .register(registry);
+    }
+
+    private static double regionHitRatio(CacheRegionStatistics region) {
+        return region == null ? Double.NaN : hitRatio(region.getHitCount(), region.getMissCount());
+    }
+
+    private static double hitRatio(long hits, long misses) {
+        long lookups = hits + misses;
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+}
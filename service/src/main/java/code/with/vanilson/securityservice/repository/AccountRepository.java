@@ -0,0 +1,55 @@
+package code.with.vanilson.securityservice.repository;
+
+import code.with.vanilson.securityservice.domain.Account;
+import code.with.vanilson.securityservice.repository.projection.AccountCredentialsRow;
+import code.with.vanilson.securityservice.repository.projection.AccountRoleRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Accounts with two fetch plans: lookups of a single account that need its roles, such as authentication,
+ * join them in with {@link Account#WITH_ROLES}; page queries load accounts alone and the roles of the whole
+ * page follow in one batch when first accessed. Methods without a plan never touch roles.
+ * <p>
+ * Pure reads use the row projections instead: they select only the columns their caller needs, in one join,
+ * and create no managed entities. Username lookups go through the query cache, which Hibernate invalidates
+ * whenever accounts, roles or their links change.
+ */
+@Repository
+public interface AccountRepository extends JpaRepository<Account, Long> {
+    @EntityGraph(Account.WITH_ROLES)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Account findByUsername(String username);
+
+    @EntityGraph(Account.WITH_ROLES)
+    Optional<Account> findWithRolesById(Long id);
+
+    @Query("select new code.with.vanilson.securityservice.repository.projection.AccountRoleRow("
+            + "a.id, a.username, a.enabled, a.locked, a.expired, a.credentialExpired, r.roleId, r.name, r.code) "
+            + "from Account a left join a.roles r where a.username = :username")
+    List<AccountRoleRow> findAccountRowsByUsername(@Param("username") String username);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new code.with.vanilson.securityservice.repository.projection.AccountCredentialsRow("
+            + "a.username, a.password, a.enabled, a.locked, a.expired, a.credentialExpired, r.roleId, r.name) "
+            + "from Account a left join a.roles r where a.username = :username")
+    List<AccountCredentialsRow> findCredentialsByUsername(@Param("username") String username);
+
+    boolean existsByUsername(String username);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Account> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Account> findByIdLessThan(Long id, Pageable pageable);
+}
@@ -0,0 +1,55 @@
+package code.with.vanilson.securityservice.repository;
+
+import code.with.vanilson.securityservice.domain.Employee;
+import code.with.vanilson.securityservice.dto.EmployeeDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
+    int STREAM_FETCH_SIZE = 500;
+
+    @Query("select new code.with.vanilson.securityservice.dto.EmployeeDTO("
+            + "e.employeeId, e.firstName, e.lastName, e.username, e.email) from Employee e where e.email = :email")
+    Optional<EmployeeDTO> findEmployeeByEmail(@Param("email") String email);
+
+    @Query("select new code.with.vanilson.securityservice.dto.EmployeeDTO("
+            + "e.employeeId, e.firstName, e.lastName, e.username, e.email) from Employee e where e.employeeId = :id")
+    Optional<EmployeeDTO> findEmployeeDTOById(@Param("id") int id);
+
+    boolean existsByUsernameOrEmail(String username, String email);
+
+    @Query("select e.username from Employee e where e.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("select e.email from Employee e where e.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Employee> findByEmployeeIdGreaterThan(int employeeId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Employee> findByEmployeeIdLessThan(int employeeId, Pageable pageable);
+
+    /**
+     * Streams every employee ordered by ID through a server-side cursor. Must be consumed, and closed,
+     * inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Employee e order by e.employeeId")
+    Stream<Employee> streamAll();
+}
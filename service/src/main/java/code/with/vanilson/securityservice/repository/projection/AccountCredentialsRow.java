@@ -0,0 +1,9 @@
+package code.with.vanilson.securityservice.repository.projection;
+
+/**
+ * What authentication needs of an account, joined with one of its roles: status flags, password hash and the
+ * role's ID and name. An account without roles yields a single row whose role columns are {@code null}.
+ */
+public record AccountCredentialsRow(String username, String password, boolean enabled, boolean locked,
+                                    boolean expired, boolean credentialExpired, Long roleId, String roleName) {
+}
@@ -0,0 +1,9 @@
+package code.with.vanilson.securityservice.repository.projection;
+
+/**
+ * One row of an account joined with one of its roles, without the password. An account without roles yields
+ * a single row whose role columns are {@code null}.
+ */
+public record AccountRoleRow(Long id, String username, boolean enabled, boolean locked, boolean expired,
+                             boolean credentialExpired, Long roleId, String roleName, String roleCode) {
+}
@@ -15,6 +15,9 @@ import org.springframework.stereotype.Component;
 public class AccountAuthenticationProvider extends AbstractUserDetailsAuthenticationProvider {
     private final UserDetailsService userDetailsService;
     private final PasswordEncoder encoder;
+    private final VerifiedCredentialCache credentialCache;
+    private final PasswordRehashService passwordRehashService;
+    private final AuthenticationMetrics metrics;
 
     @Override
     protected void additionalAuthenticationChecks(UserDetails userDetails,
@@ -23,10 +26,19 @@ public class AccountAuthenticationProvider extends AbstractUserDetailsAuthentica
         if (authentication.getCredentials() == null || userDetails.getPassword() == null) {
             throw new BadCredentialsException("Credentials may not be null");
         }
-        if (!encoder.matches((String) authentication.getCredentials(), userDetails.getPassword())) {
-            throw new BadCredentialsException("Invalid credentials");
+        String presentedPassword = authentication.getCredentials().toString();
+        long start = System.nanoTime();
+        if (credentialCache.isVerified(userDetails.getUsername(), presentedPassword, userDetails.getPassword())) {
+            metrics.recordPasswordCheck(start, AuthenticationMetrics.PasswordCheck.CACHED);
+        } else {
+            if (!encoder.matches(presentedPassword, userDetails.getPassword())) {
+                metrics.recordPasswordCheck(start, AuthenticationMetrics.PasswordCheck.REJECTED);
+                throw new BadCredentialsException("Invalid credentials");
+            }
+            metrics.recordPasswordCheck(start, AuthenticationMetrics.PasswordCheck.MATCHED);
+            credentialCache.put(userDetails.getUsername(), presentedPassword, userDetails.getPassword());
         }
-
+        passwordRehashService.upgradeIfNeeded(userDetails, presentedPassword);
     }
 
     @Override
@@ -0,0 +1,52 @@
+package code.with.vanilson.securityservice.security;
+
+import code.with.vanilson.securityservice.domain.Account;
+import code.with.vanilson.securityservice.repository.projection.AccountCredentialsRow;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Set;
+
+/**
+ * Immutable {@link UserDetails} snapshot of an {@link Account} or of its {@link AccountCredentialsRow}s.
+ * <p>
+ * Unlike {@link org.springframework.security.core.userdetails.User} it does not implement
+ * {@link org.springframework.security.core.CredentialsContainer}, so erasing credentials after authentication
+ * leaves it untouched and a single instance can safely be shared from a cache across requests.
+ */
+@Getter
+@EqualsAndHashCode(of = "username")
+@ToString
+public final class AccountUserDetails implements UserDetails {
+    private final String username;
+    @ToString.Exclude
+    private final String password;
+    private final boolean enabled;
+    private final boolean accountNonExpired;
+    private final boolean credentialsNonExpired;
+    private final boolean accountNonLocked;
+    private final Set<GrantedAuthority> authorities;
+
+    public AccountUserDetails(Account account, Set<GrantedAuthority> authorities) {
+        this.username = account.getUsername();
+        this.password = account.getPassword();
+        this.enabled = account.isEnabled();
+        this.accountNonExpired = !account.isExpired();
+        this.credentialsNonExpired = !account.isCredentialExpired();
+        this.accountNonLocked = !account.isLocked();
+        this.authorities = Set.copyOf(authorities); // no copy when already immutable, e.g. interned sets
+    }
+
+    public AccountUserDetails(AccountCredentialsRow account, Set<GrantedAuthority> authorities) {
+        this.username = account.username();
+        this.password = account.password();
+        this.enabled = account.enabled();
+        this.accountNonExpired = !account.expired();
+        this.credentialsNonExpired = !account.credentialExpired();
+        this.accountNonLocked = !account.locked();
+        this.authorities = Set.copyOf(authorities);
+    }
+}
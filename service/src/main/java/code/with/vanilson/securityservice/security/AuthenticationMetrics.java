@@ -0,0 +1,75 @@
+package code.with.vanilson.securityservice.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Timers for the stages of authenticating a request:
+ * <ul>
+ *     <li>{@code auth.user.lookup}: loading the user, cache included; {@code outcome=found|failed}</li>
+ *     <li>{@code auth.password.match}: checking the presented password;
+ *     {@code outcome=cached|matched|rejected}</li>
+ *     <li>{@code auth.filter.chain}: the security filter chain as a whole, up to the controller or the
+ *     rejection; {@code outcome=passed|rejected}</li>
+ * </ul>
+ * Histograms and SLO buckets are configured under {@code management.metrics.distribution}.
+ */
+@Component
+public class AuthenticationMetrics {
+
+    public enum PasswordCheck {
+        CACHED, MATCHED, REJECTED
+    }
+
+    private final Timer userLookupFound;
+    private final Timer userLookupFailed;
+    private final Timer[] passwordMatch = new Timer[PasswordCheck.values().length];
+    private final Timer filterChainPassed;
+    private final Timer filterChainRejected;
+
+    public AuthenticationMetrics(MeterRegistry meterRegistry) {
+        this.userLookupFound = timer(meterRegistry, "auth.user.lookup", "found", "Time to load the user");
+        this.userLookupFailed = timer(meterRegistry, "auth.user.lookup", "failed", "Time to load the user");
+        for (PasswordCheck check : PasswordCheck.values()) {
+            passwordMatch[check.ordinal()] = timer(meterRegistry, "auth.password.match", check.name().toLowerCase(),
+                    "Time to check the presented password");
+        }
+        this.filterChainPassed = timer(meterRegistry, "auth.filter.chain", "passed",
+                "Time spent in the security filter chain");
+        this.filterChainRejected = timer(meterRegistry, "auth.filter.chain", "rejected",
+                "Time spent in the security filter chain");
+    }
+
+    public UserDetails timeUserLookup(Supplier<UserDetails> lookup) {
+        long start = System.nanoTime();
+        try {
+            UserDetails user = lookup.get();
+            userLookupFound.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return user;
+        } catch (RuntimeException e) {
+            userLookupFailed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    void recordPasswordCheck(long startNanos, PasswordCheck outcome) {
+        passwordMatch[outcome.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordFilterChain(long startNanos, boolean passed) {
+        (passed ? filterChainPassed : filterChainRejected).record(System.nanoTime() - startNanos,
+                TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String outcome, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
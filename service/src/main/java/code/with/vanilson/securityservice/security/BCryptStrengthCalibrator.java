@@ -0,0 +1,48 @@
+package code.with.vanilson.securityservice.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Finds the BCrypt strength (log2 of the rounds) whose hash time on this machine comes closest to a target
+ * without exceeding it. Each step up doubles the cost, so candidates are only measured while the previous
+ * one took at most half the target.
+ */
+final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * @param targetHashTime the longest acceptable time for one hash
+     * @param minStrength    the lowest strength to return, even if it is slower than the target
+     * @param maxStrength    the highest strength to return
+     * @return the calibrated strength
+     */
+    static int calibrate(Duration targetHashTime, int minStrength, int maxStrength) {
+        long targetNanos = targetHashTime.toNanos();
+        int strength = minStrength;
+        long nanos = measure(strength);
+        while (strength < maxStrength && nanos * 2 <= targetNanos) {
+            strength++;
+            nanos = measure(strength);
+        }
+        return nanos > targetNanos && strength > minStrength ? strength - 1 : strength;
+    }
+
+    private static long measure(int strength) {
+        var encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD); // warm-up
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+}
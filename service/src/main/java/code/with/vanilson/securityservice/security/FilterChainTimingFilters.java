@@ -0,0 +1,62 @@
+package code.with.vanilson.securityservice.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * A pair of filters placed first and last in the security filter chain to time it as a whole. The entry
+ * filter notes the start; the exit filter records {@code passed} when the request leaves the chain towards
+ * the controller. Requests that never reach the exit filter are recorded as {@code rejected}.
+ */
+final class FilterChainTimingFilters {
+    private static final String START_ATTRIBUTE = FilterChainTimingFilters.class.getName() + ".start";
+
+    private FilterChainTimingFilters() {
+    }
+
+    static final class Entry extends OncePerRequestFilter {
+        private final AuthenticationMetrics metrics;
+
+        Entry(AuthenticationMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            long start = System.nanoTime();
+            request.setAttribute(START_ATTRIBUTE, start);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                if (request.getAttribute(START_ATTRIBUTE) != null) {
+                    request.removeAttribute(START_ATTRIBUTE);
+                    metrics.recordFilterChain(start, false);
+                }
+            }
+        }
+    }
+
+    static final class Exit extends OncePerRequestFilter {
+        private final AuthenticationMetrics metrics;
+
+        Exit(AuthenticationMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+                request.removeAttribute(START_ATTRIBUTE);
+                metrics.recordFilterChain(start, true);
+            }
+            chain.doFilter(request, response);
+        }
+    }
+}
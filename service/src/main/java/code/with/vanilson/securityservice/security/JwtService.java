@@ -0,0 +1,102 @@
+package code.with.vanilson.securityservice.security;
+
+import code.with.vanilson.securityservice.common.security.InvalidJwtException;
+import code.with.vanilson.securityservice.common.security.JwtCodec;
+import code.with.vanilson.securityservice.common.security.TokenType;
+import code.with.vanilson.securityservice.exception.InvalidTokenException;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Issues and verifies the signed access and refresh tokens used by the stateless API.
+ * <p>
+ * Access tokens carry the account authorities as a claim, so a request bearing one is authenticated from the
+ * signature alone, without a database lookup or a password hash check. Signing and the claim layout live in
+ * {@link JwtCodec}, shared with the reactive service, which verifies these tokens.
+ */
+@Component
+public class JwtService {
+
+    private final JwtCodec jwtCodec;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+
+    public JwtService(@Value("${security.jwt.secret}") String secret,
+                      @Value("${security.jwt.access-token-ttl:15m}") Duration accessTokenTtl,
+                      @Value("${security.jwt.refresh-token-ttl:7d}") Duration refreshTokenTtl) {
+        this.jwtCodec = new JwtCodec(secret);
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    /**
+     * Issues a short-lived access token carrying the user's authorities.
+     *
+     * @param userDetails the authenticated user
+     * @return the compact, signed token
+     */
+    public String issueAccessToken(UserDetails userDetails) {
+        List<String> authorities = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        return jwtCodec.issue(userDetails.getUsername(), TokenType.ACCESS, authorities, accessTokenTtl);
+    }
+
+    /**
+     * Issues a long-lived refresh token. It carries no authorities; they are re-read from the account
+     * when the token is exchanged.
+     *
+     * @param userDetails the authenticated user
+     * @return the compact, signed token
+     */
+    public String issueRefreshToken(UserDetails userDetails) {
+        return jwtCodec.issue(userDetails.getUsername(), TokenType.REFRESH, null, refreshTokenTtl);
+    }
+
+    /**
+     * Verifies the signature and expiry of a token and checks it is of the expected type.
+     *
+     * @param token    the compact token
+     * @param expected the token type the caller accepts
+     * @return the verified claims
+     * @throws InvalidTokenException if the token is malformed, expired, tampered with or of the wrong type
+     */
+    public Claims parse(String token, TokenType expected) {
+        try {
+            return jwtCodec.verify(token, expected);
+        } catch (InvalidJwtException e) {
+            throw new InvalidTokenException(e.getMessage());
+        }
+    }
+
+    /**
+     * Builds an authenticated principal straight from a verified access token.
+     *
+     * @param accessToken the compact access token
+     * @return the authenticated token holding the username and authorities from the claims
+     * @throws InvalidTokenException if the token cannot be verified
+     */
+    public UsernamePasswordAuthenticationToken authenticate(String accessToken) {
+        Claims claims = parse(accessToken, TokenType.ACCESS);
+        return UsernamePasswordAuthenticationToken.authenticated(claims.getSubject(), null, authorities(claims));
+    }
+
+    public long getAccessTokenTtlSeconds() {
+        return accessTokenTtl.toSeconds();
+    }
+
+    private static Collection<GrantedAuthority> authorities(Claims claims) {
+        return JwtCodec.authorities(claims).stream()
+                .map(value -> (GrantedAuthority) new SimpleGrantedAuthority(value))
+                .toList();
+    }
+}
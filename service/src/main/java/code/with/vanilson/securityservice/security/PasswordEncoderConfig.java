@@ -0,0 +1,63 @@
+package code.with.vanilson.securityservice.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Password hashes are stored as {@code {id}hash}; new hashes use {@code security.password-hashing.algorithm}.
+ * Hashes without an id predate this format and are BCrypt. The BCrypt strength is fixed with
+ * {@code security.password-hashing.bcrypt-strength} (10 by default). Only with
+ * {@code security.password-hashing.calibrate} is it instead measured at startup, as the highest strength whose
+ * hash time stays within {@code security.password-hashing.target-hash-time}; that costs several hashes per start
+ * and can pick a different strength on every start. Hashes stored with another algorithm or a lower strength are
+ * upgraded after the next successful login.
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+    static final String BCRYPT = "bcrypt";
+    static final String PBKDF2 = "pbkdf2@SpringSecurity_v5_8";
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${security.password-hashing.algorithm:bcrypt}") String algorithm,
+                                           @Value("${security.password-hashing.bcrypt-strength:10}") int bcryptStrength,
+                                           @Value("${security.password-hashing.calibrate:false}") boolean calibrate,
+                                           @Value("${security.password-hashing.target-hash-time:250ms}")
+                                           Duration targetHashTime,
+                                           @Value("${security.password-hashing.pool-size:0}") int poolSize,
+                                           @Value("${security.password-hashing.queue-capacity:100}") int queueCapacity,
+                                           MeterRegistry meterRegistry) {
+        int strength = calibrate ? calibratedStrength(targetHashTime) : bcryptStrength;
+        int workers = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new PasswordHashingService(delegatingEncoder(algorithm, strength), workers, queueCapacity,
+                meterRegistry);
+    }
+
+    static PasswordEncoder delegatingEncoder(String algorithm, int bcryptStrength) {
+        var bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        var encoder = new DelegatingPasswordEncoder(algorithm, Map.of(
+                BCRYPT, bcrypt,
+                PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        log.info("Password hashing: algorithm {}, BCrypt strength {}", algorithm, bcryptStrength);
+        return encoder;
+    }
+
+    private static int calibratedStrength(Duration targetHashTime) {
+        long start = System.nanoTime();
+        int strength = BCryptStrengthCalibrator.calibrate(targetHashTime, 10, 16);
+        log.info("Calibrated BCrypt strength {} for a target hash time of {} in {} ms",
+                strength, targetHashTime, (System.nanoTime() - start) / 1_000_000);
+        return strength;
+    }
+}
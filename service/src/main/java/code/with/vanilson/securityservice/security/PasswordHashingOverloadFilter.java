@@ -0,0 +1,35 @@
+package code.with.vanilson.securityservice.security;
+
+import code.with.vanilson.securityservice.exception.PasswordHashingOverloadedException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Answers 503 with {@code Retry-After} when password hashing is saturated while authenticating in the filter
+ * chain, e.g. for HTTP Basic. Overloads inside controllers are handled by the global exception handler.
+ */
+@Slf4j
+public class PasswordHashingOverloadFilter extends OncePerRequestFilter {
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } catch (PasswordHashingOverloadedException e) {
+            log.warn("Rejected {} {}: {}", request.getMethod(), request.getRequestURI(), e.getMessage());
+            if (!response.isCommitted()) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package code.with.vanilson.securityservice.security;
+
+import code.with.vanilson.securityservice.exception.PasswordHashingOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs every password hash on a dedicated fixed-size worker pool with a bounded queue.
+ * <p>
+ * Request threads hand the work over and wait for the result, so a burst of signups or logins can occupy at most
+ * {@code poolSize} cores and {@code queueCapacity} waiting slots. Once the queue is full, callers fail fast with
+ * {@link PasswordHashingOverloadedException}, answered as 503 with {@code Retry-After}. Exposed as the
+ * application's {@link PasswordEncoder}, so every encode and matches call site goes through it.
+ * <p>
+ * Meters: {@code password.hashing.queue.wait} and {@code password.hashing.duration} timers and the
+ * {@code password.hashing.rejected} counter, all tagged {@code operation=encode|matches}, plus the
+ * {@code password.hashing.queue.size} gauge.
+ */
+@Slf4j
+public class PasswordHashingService implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Operation encode;
+    private final Operation matches;
+
+    public PasswordHashingService(PasswordEncoder delegate, int poolSize, int queueCapacity,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        var threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.encode = new Operation("encode", meterRegistry);
+        this.matches = new Operation("matches", meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Password hashes waiting for a worker")
+                .register(meterRegistry);
+        log.info("Password hashing pool: {} workers, queue capacity {}", poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encode.run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return matches.run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Submission and metering of one kind of hash operation.
+     */
+    private final class Operation {
+        private final String name;
+        private final Timer queueWait;
+        private final Timer duration;
+        private final Counter rejected;
+
+        Operation(String name, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.queueWait = Timer.builder("password.hashing.queue.wait")
+                    .description("Time a password hash waited for a worker")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+            this.duration = Timer.builder("password.hashing.duration")
+                    .description("Time spent computing a password hash")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("password.hashing.rejected")
+                    .description("Password hashes rejected because the queue was full")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+        }
+
+        <T> T run(Supplier<T> hash) {
+            long submitted = System.nanoTime();
+            Future<T> result;
+            try {
+                result = executor.submit(() -> {
+                    queueWait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                    return duration.record(hash);
+                });
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                throw new PasswordHashingOverloadedException("Too many concurrent password operations, retry later");
+            }
+            try {
+                return result.get();
+            } catch (InterruptedException e) {
+                result.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for password " + name, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("Password " + name + " failed", e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package code.with.vanilson.securityservice.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Re-encodes outdated password hashes after a successful login, off the request thread. Upgrades are best
+ * effort: one per user at a time, dropped when the backlog is full or hashing is overloaded, and retried on
+ * a later login.
+ */
+@Slf4j
+@Component
+public class PasswordRehashService implements DisposableBean {
+    private static final int MAX_PENDING_UPGRADES = 100;
+
+    private final PasswordEncoder encoder;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+    private final ExecutorService executor;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public PasswordRehashService(PasswordEncoder encoder, UserDetailsPasswordService userDetailsPasswordService) {
+        this.encoder = encoder;
+        this.userDetailsPasswordService = userDetailsPasswordService;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_PENDING_UPGRADES), runnable -> {
+            Thread thread = new Thread(runnable, "password-rehash");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules an upgrade if the stored hash of an authenticated user is outdated.
+     *
+     * @param user        the authenticated user, carrying the stored hash
+     * @param rawPassword the password the user just authenticated with
+     */
+    public void upgradeIfNeeded(UserDetails user, String rawPassword) {
+        if (!encoder.upgradeEncoding(user.getPassword()) || !pending.add(user.getUsername())) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    upgrade(user, rawPassword);
+                } finally {
+                    pending.remove(user.getUsername());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(user.getUsername());
+            log.debug("Password upgrade of {} skipped: backlog full", user.getUsername());
+        }
+    }
+
+    private void upgrade(UserDetails user, String rawPassword) {
+        try {
+            userDetailsPasswordService.updatePassword(user, encoder.encode(rawPassword));
+            log.info("Upgraded password hash of {}", user.getUsername());
+        } catch (RuntimeException e) {
+            log.warn("Password upgrade of {} failed: {}", user.getUsername(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,133 @@
+package code.with.vanilson.securityservice.security;
+
+import code.with.vanilson.securityservice.domain.Role;
+import code.with.vanilson.securityservice.repository.RoleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * Hands out one shared, immutable authority set per combination of roles, so loading a user allocates no
+ * authorities of its own.
+ * <p>
+ * Roles are loaded from {@link RoleRepository} once the application is ready. Each of the first
+ * {@value #MAX_INTERNED_ROLES} roles, ordered by ID, gets a bit; a role combination is a bit mask indexing a
+ * lazily filled table of sets. A role that is unknown or whose name no longer matches triggers a reload, so
+ * roles created or renamed in the database are picked up on first use. Code that changes roles should still
+ * call {@link #refresh()}.
+ */
+@Slf4j
+@Component
+public class RoleAuthorityRegistry {
+
+    static final int MAX_INTERNED_ROLES = 16;
+
+    private final RoleRepository roleRepository;
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    public RoleAuthorityRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    /**
+     * Reloads all roles and drops every interned set.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        List<Role> roles = roleRepository.findAll(Sort.by("roleId"));
+        snapshot = Snapshot.of(roles);
+        log.info("Role authority registry loaded {} roles", roles.size());
+    }
+
+    /**
+     * @param roles the roles of an account
+     * @return the immutable authorities of those roles, shared by every account with the same roles
+     */
+    public Set<GrantedAuthority> authoritiesFor(Collection<Role> roles) {
+        Set<GrantedAuthority> authorities = snapshot.lookup(roles);
+        if (authorities == null) {
+            refresh();
+            authorities = snapshot.lookup(roles);
+        }
+        return authorities != null ? authorities : uninterned(roles);
+    }
+
+    private static Set<GrantedAuthority> uninterned(Collection<Role> roles) {
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.getName()))
+                .collect(toUnmodifiableSet());
+    }
+
+    /**
+     * Roles known at one load and the sets interned for them. Replaced as a whole on refresh.
+     */
+    private static final class Snapshot {
+        private final Map<Long, Integer> bitByRoleId;
+        private final List<GrantedAuthority> authorityByBit;
+        private final AtomicReferenceArray<Set<GrantedAuthority>> setsByMask;
+
+        private Snapshot(Map<Long, Integer> bitByRoleId, List<GrantedAuthority> authorityByBit) {
+            this.bitByRoleId = bitByRoleId;
+            this.authorityByBit = authorityByBit;
+            this.setsByMask = new AtomicReferenceArray<>(1 << Math.min(authorityByBit.size(), MAX_INTERNED_ROLES));
+        }
+
+        static Snapshot of(List<Role> roles) {
+            Map<Long, Integer> bitByRoleId = new HashMap<>();
+            List<GrantedAuthority> authorityByBit = new ArrayList<>();
+            for (Role role : roles) {
+                bitByRoleId.put(role.getRoleId(), authorityByBit.size());
+                authorityByBit.add(new SimpleGrantedAuthority(role.getName()));
+            }
+            return new Snapshot(Map.copyOf(bitByRoleId), List.copyOf(authorityByBit));
+        }
+
+        /**
+         * @return the interned set, {@code null} if a role is unknown or renamed, or an uninterned set if a role
+         * is known but beyond {@value #MAX_INTERNED_ROLES}
+         */
+        Set<GrantedAuthority> lookup(Collection<Role> roles) {
+            int mask = 0;
+            boolean internable = true;
+            for (Role role : roles) {
+                Integer bit = bitByRoleId.get(role.getRoleId());
+                if (bit == null || !authorityByBit.get(bit).getAuthority().equals(role.getName())) {
+                    return null;
+                }
+                if (bit >= MAX_INTERNED_ROLES) {
+                    internable = false;
+                } else {
+                    mask |= 1 << bit;
+                }
+            }
+            if (!internable) {
+                return uninterned(roles);
+            }
+            Set<GrantedAuthority> authorities = setsByMask.get(mask);
+            if (authorities == null) {
+                setsByMask.compareAndSet(mask, null, authoritiesOf(mask));
+                authorities = setsByMask.get(mask);
+            }
+            return authorities;
+        }
+
+        private Set<GrantedAuthority> authoritiesOf(int mask) {
+            Set<GrantedAuthority> authorities = new HashSet<>();
+            for (int bit = 0; bit < MAX_INTERNED_ROLES; bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    authorities.add(authorityByBit.get(bit));
+                }
+            }
+            return Set.copyOf(authorities);
+        }
+    }
+}
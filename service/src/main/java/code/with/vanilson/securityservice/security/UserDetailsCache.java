@@ -0,0 +1,67 @@
+package code.with.vanilson.securityservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, short-lived cache of immutable {@link UserDetails} keyed by username, so authenticated requests do
+ * not query the account and its roles every time.
+ * <p>
+ * Entries expire after a short TTL and must be evicted explicitly whenever an account is written. Hit, miss and
+ * eviction statistics are published as the {@code cache.*} meters tagged {@code cache=userDetails}.
+ */
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+    static final String CACHE_NAME = "userDetails";
+
+    private final boolean enabled;
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(@Value("${security.user-details-cache.enabled:true}") boolean enabled,
+                            @Value("${security.user-details-cache.ttl:60s}") Duration ttl,
+                            @Value("${security.user-details-cache.max-size:10000}") long maxSize,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("User details cache enabled={}, ttl={}, maxSize={}", enabled, ttl, maxSize);
+    }
+
+    /**
+     * Returns the cached user, loading and caching it on a miss. Failed loads are not cached.
+     *
+     * @param username the username to look up
+     * @param loader   loads the user from the database on a miss
+     * @return the user
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return enabled ? cache.get(username, loader) : loader.apply(username);
+    }
+
+    /**
+     * Drops the cached user once the current transaction commits, or right away outside a transaction. Must be
+     * called from every path that creates, updates, locks or deletes an account.
+     *
+     * @param username the username to evict
+     */
+    public void evict(String username) {
+        if (username != null) {
+            AfterCommit.run(() -> cache.invalidate(username));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package code.with.vanilson.securityservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+/**
+ * Bounded, TTL-based cache of credentials that were recently verified against their BCrypt hash.
+ * <p>
+ * Entries are keyed by username and hold an HMAC-SHA256 digest of the presented password (computed with a
+ * random per-process key) together with the stored hash it was verified against. The raw password is never
+ * kept, and an entry stops matching as soon as the stored hash changes.
+ */
+@Slf4j
+@Component
+public class VerifiedCredentialCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String METRIC_NAME = "auth.credential.cache";
+
+    private final boolean enabled;
+    private final SecretKeySpec digestKey;
+    private final Cache<String, VerifiedCredential> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedCredentialCache(@Value("${security.credential-cache.enabled:true}") boolean enabled,
+                                   @Value("${security.credential-cache.ttl:5m}") Duration ttl,
+                                   @Value("${security.credential-cache.max-size:10000}") long maxSize,
+                                   MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.digestKey = new SecretKeySpec(randomKey(), HMAC_ALGORITHM);
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+        this.hits = Counter.builder(METRIC_NAME)
+                .description("Authentications answered from the verified-credential cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME)
+                .description("Authentications that required a password hash check")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", cache, Cache::estimatedSize)
+                .description("Number of cached verified credentials")
+                .register(meterRegistry);
+        log.info("Verified-credential cache enabled={}, ttl={}, maxSize={}", enabled, ttl, maxSize);
+    }
+
+    /**
+     * Checks whether the presented password was recently verified against the given stored hash.
+     *
+     * @param username        the username being authenticated
+     * @param rawPassword     the password presented by the client
+     * @param encodedPassword the hash currently stored for the account
+     * @return {@code true} if the credentials can be accepted without running the password encoder
+     */
+    public boolean isVerified(String username, String rawPassword, String encodedPassword) {
+        if (!enabled) {
+            return false;
+        }
+        VerifiedCredential cached = cache.getIfPresent(username);
+        if (cached != null
+                && cached.encodedPassword().equals(encodedPassword)
+                && MessageDigest.isEqual(cached.digest(), digest(username, rawPassword))) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Records a successful password check so subsequent requests can skip the password encoder.
+     *
+     * @param username        the authenticated username
+     * @param rawPassword     the password presented by the client
+     * @param encodedPassword the stored hash the password was verified against
+     */
+    public void put(String username, String rawPassword, String encodedPassword) {
+        if (enabled) {
+            cache.put(username, new VerifiedCredential(digest(username, rawPassword), encodedPassword));
+        }
+    }
+
+    /**
+     * Drops any cached credential for the given username once the current transaction commits, or right away
+     * outside a transaction. Must be called whenever the account is updated, locked or deleted.
+     *
+     * @param username the username whose cached credential is discarded
+     */
+    public void invalidate(String username) {
+        if (username != null) {
+            AfterCommit.run(() -> cache.invalidate(username));
+        }
+    }
+
+    private byte[] digest(String username, String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(digestKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to compute credential digest", e);
+        }
+    }
+
+    private static byte[] randomKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    private record VerifiedCredential(byte[] digest, String encodedPassword) {
+    }
+}
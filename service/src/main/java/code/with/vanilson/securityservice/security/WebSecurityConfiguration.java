@@ -0,0 +1,54 @@
+package code.with.vanilson.securityservice.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.session.DisableEncodeUrlFilter;
+
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.security.config.Customizer.withDefaults;
+import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
+
+@Configuration
+@EnableWebSecurity
+@RequiredArgsConstructor
+@EnableMethodSecurity
+public class WebSecurityConfiguration {
+    private final AccountAuthenticationProvider authenticationProvider;
+    private final JwtService jwtService;
+    private final AuthenticationMetrics authenticationMetrics;
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        http.csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(POST, "/api/accounts/**")
+                        .permitAll()
+                        .requestMatchers("/**")
+                        .authenticated()
+                        .anyRequest()
+                        .hasAnyRole("USER", "ADMIN", "MANAGER", "ROLE_USER", "GUEST"))
+                .authenticationProvider(authenticationProvider)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService), BasicAuthenticationFilter.class)
+                .addFilterBefore(new PasswordHashingOverloadFilter(), JwtAuthenticationFilter.class)
+                .addFilterBefore(new FilterChainTimingFilters.Entry(authenticationMetrics), DisableEncodeUrlFilter.class)
+                .addFilterAfter(new FilterChainTimingFilters.Exit(authenticationMetrics), AuthorizationFilter.class)
+                .httpBasic(withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(STATELESS));
+        return http.build();
+    }
+
+    @Bean
+    public AuthenticationManager authenticationManager() {
+        return new ProviderManager(authenticationProvider);
+    }
+}
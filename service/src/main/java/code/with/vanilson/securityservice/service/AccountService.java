@@ -5,6 +5,8 @@ import code.with.vanilson.securityservice.exception.AccountNotFoundException;
 import code.with.vanilson.securityservice.exception.UsernameAlreadyExistsException;
 import code.with.vanilson.securityservice.mapper.AccountMapper;
 import code.with.vanilson.securityservice.repository.AccountRepository;
+import code.with.vanilson.securityservice.security.UserDetailsCache;
+import code.with.vanilson.securityservice.security.VerifiedCredentialCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -23,12 +25,17 @@ public class AccountService {
     private final AccountRepository accountRepository;
     private final AccountMapper accountMapper;
     private final PasswordEncoder passwordEncoder;
+    private final VerifiedCredentialCache credentialCache;
+    private final UserDetailsCache userDetailsCache;
 
     public AccountService(AccountRepository accountRepository, AccountMapper accountMapper,
-                          PasswordEncoder passwordEncoder) {
+                          PasswordEncoder passwordEncoder, VerifiedCredentialCache credentialCache,
+                          UserDetailsCache userDetailsCache) {
         this.accountRepository = accountRepository;
         this.accountMapper = accountMapper;
         this.passwordEncoder = passwordEncoder;
+        this.credentialCache = credentialCache;
+        this.userDetailsCache = userDetailsCache;
     }
 
     /**
@@ -37,9 +44,10 @@ public class AccountService {
      * @return List of AccountDTO containing all accounts.
      */
 
+    @Transactional(readOnly = true)
     public List<AccountDTO> findAllAccounts() {
         var accounts = accountRepository.findAll();
-        log.info("Found {} accounts", accounts.size());
+        log.debug("Found {} accounts", accounts.size());
         return accountMapper.toAccountDTOList(accounts);
 
     }
@@ -51,11 +59,12 @@ public class AccountService {
      * @return Optional containing the AccountDTO if found, empty otherwise.
      * @throws AccountNotFoundException if no account is found with the given ID.
      */
+    @Transactional(readOnly = true)
     public Optional<AccountDTO> findAccountById(Long id) {
         var accounts = accountRepository.
-                findById(id)
+                findWithRolesById(id)
                 .orElseThrow(AccountNotFoundException::new);
-        log.info("Found account with id {}", id);
+        log.debug("Found account with id {}", id);
         return Optional.ofNullable(accountMapper.toAccountDTO(accounts));
 
     }
@@ -76,7 +85,7 @@ public class AccountService {
         }
         var account = accountMapper.toAccountEntity(accountDTO);
         var accountSaved = accountRepository.save(account);
-        log.info("Account saved: {}", accountSaved);
+        log.info("Account saved: id={}", accountSaved.getId());
         return accountMapper.toAccountDTO(accountSaved);
 
     }
@@ -101,6 +110,10 @@ public class AccountService {
                     MessageFormat.format("Username already exists: {0}", accountDTO.getUserName()));
         }
 
+        // Cached credentials and user details of the previous username must not survive the update
+        String previousUsername = existingAccount.getUsername();
+        credentialCache.invalidate(previousUsername);
+
         // Update the existing account entity with the new details
         // Validate if the new username is the same as the existing one
         if (!existingAccount.getUsername().equals(accountDTO.getUserName())) {
@@ -117,7 +130,9 @@ public class AccountService {
                 .collect(Collectors.toSet()));
 
         var updatedAccount = accountRepository.save(existingAccount);
-        log.info("Account updated: {}", updatedAccount);
+        userDetailsCache.evict(previousUsername);
+        userDetailsCache.evict(updatedAccount.getUsername());
+        log.info("Account updated: id={}", updatedAccount.getId());
         return accountMapper.toAccountDTO(updatedAccount);
     }
 
@@ -132,6 +147,8 @@ public class AccountService {
                 .orElseThrow(AccountNotFoundException::new);
         log.info("Deleting account with id:{}", id);
         accountRepository.delete(account);
+        credentialCache.invalidate(account.getUsername());
+        userDetailsCache.evict(account.getUsername());
     }
 
     /**
@@ -0,0 +1,269 @@
+package code.with.vanilson.securityservice.service;
+
+import code.with.vanilson.securityservice.common.bulkimport.BulkImportReport;
+import code.with.vanilson.securityservice.common.bulkimport.ImportChunk;
+import code.with.vanilson.securityservice.common.bulkimport.ImportRow;
+import code.with.vanilson.securityservice.common.bulkimport.InvalidImportPayloadException;
+import code.with.vanilson.securityservice.common.csv.CsvFormat;
+import code.with.vanilson.securityservice.domain.Employee;
+import code.with.vanilson.securityservice.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.mapper.EmployeeMapper;
+import code.with.vanilson.securityservice.persistence.QueryCounter;
+import code.with.vanilson.securityservice.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Imports employees in bulk from a JSON array or a CSV stream.
+ * <p>
+ * Rows are read incrementally and handled in chunks of {@value #CHUNK_SIZE}: each chunk is validated by an
+ * {@link ImportChunk} (bean constraints, duplicates inside the chunk, and existing usernames/emails with one
+ * query per column), then the valid rows are inserted in their own transaction through Hibernate JDBC batching. Every row gets a result in
+ * the returned report; a failing chunk does not roll back chunks already imported, and a row that violates a
+ * unique constraint fails alone. Each chunk is reported to the {@link QueryCounter} as one unit of work, so the
+ * endpoint's query budget scales with the import size.
+ */
+@Service
+@Slf4j
+public class EmployeeBulkImportService {
+
+    static final int CHUNK_SIZE = 500;
+    private static final List<String> CSV_COLUMNS = List.of("firstname", "lastname", "username", "email");
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectReader employeeReader;
+
+    public EmployeeBulkImportService(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                                     Validator validator, TransactionTemplate transactionTemplate,
+                                     EntityManager entityManager, ObjectMapper objectMapper) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.employeeReader = objectMapper.readerFor(EmployeeDTO.class);
+    }
+
+    /**
+     * Imports a JSON array of employees. The array is read element by element, never as a whole.
+     * <p>
+     * An element that is well-formed JSON but not an employee, such as a number where a string is expected,
+     * fails its row only. If the body turns malformed after some rows were read, those rows are still imported
+     * (earlier chunks are already committed) and the report ends with a failed entry for the position where
+     * reading stopped.
+     *
+     * @param inputStream the request body
+     * @return the per-row import report
+     * @throws IOException if the body cannot be read
+     * @throws InvalidImportPayloadException if the body is not a JSON array of employees from its first row
+     */
+    public BulkImportReport importJson(InputStream inputStream) throws IOException {
+        var report = new BulkImportReport();
+        List<ImportRow<EmployeeDTO>> chunk = new ArrayList<>(CHUNK_SIZE);
+        long rowNumber = 0;
+        try (MappingIterator<EmployeeDTO> employees = employeeReader.readValues(inputStream)) {
+            while (employees.hasNextValue()) {
+                chunk.add(readRow(employees, rowNumber + 1));
+                rowNumber++;
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            if (rowNumber == 0) {
+                throw new InvalidImportPayloadException("Body must be a JSON array of employees");
+            }
+            importChunk(chunk, report);
+            report.failed(rowNumber + 1, malformedPayloadError(e));
+            log.warn("Bulk JSON import stopped at row {}: {} rows, {} imported, {} failed",
+                    rowNumber + 1, report.getTotal(), report.getImported(), report.getFailed());
+            return report;
+        }
+        importChunk(chunk, report);
+        log.info("Bulk JSON import: {} rows, {} imported, {} failed",
+                report.getTotal(), report.getImported(), report.getFailed());
+        return report;
+    }
+
+    /**
+     * Imports a CSV stream whose first line names the columns {@code firstName,lastName,username,email} in any
+     * order. Values are trimmed and may be wrapped in double quotes; quoted values may not contain commas.
+     *
+     * @param inputStream the request body
+     * @return the per-row import report
+     * @throws IOException if the body cannot be read
+     */
+    public BulkImportReport importCsv(InputStream inputStream) throws IOException {
+        var report = new BulkImportReport();
+        try (var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                return report;
+            }
+            int[] columnIndexes = csvColumnIndexes(CsvFormat.splitLine(header));
+            List<ImportRow<EmployeeDTO>> chunk = new ArrayList<>(CHUNK_SIZE);
+            long rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(ImportRow.fromCsv(++rowNumber, CsvFormat.splitLine(line), columnIndexes,
+                        EmployeeBulkImportService::toEmployee));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, report);
+        }
+        log.info("Bulk CSV import: {} rows, {} imported, {} failed",
+                report.getTotal(), report.getImported(), report.getFailed());
+        return report;
+    }
+
+    private void importChunk(List<ImportRow<EmployeeDTO>> rows, BulkImportReport report) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        QueryCounter.unitCompleted();
+        var chunk = new ImportChunk<>(rows, this::validate);
+        rejectDuplicates(chunk);
+        chunk.report(insert(chunk.candidates(), chunk), report);
+    }
+
+    private void rejectDuplicates(ImportChunk<EmployeeDTO> chunk) {
+        if (chunk.candidates().isEmpty()) {
+            return;
+        }
+        // Looked up in a read-write transaction so they run on the primary, not on a lagging read replica
+        List<Set<String>> existing = transactionTemplate.execute(status -> List.of(
+                new HashSet<>(employeeRepository.findExistingUsernames(
+                        chunk.candidateValues(EmployeeDTO::getUsername))),
+                new HashSet<>(employeeRepository.findExistingEmails(
+                        chunk.candidateValues(EmployeeDTO::getEmail)))));
+        chunk.rejectDuplicates("Username", EmployeeDTO::getUsername, existing.get(0));
+        chunk.rejectDuplicates("Email", EmployeeDTO::getEmail, existing.get(1));
+    }
+
+    /**
+     * Inserts the rows in one transaction. If a concurrent insert took a username or email between the check
+     * and the insert, the rows are split in halves and retried, so only the conflicting rows fail.
+     */
+    private Map<ImportRow<EmployeeDTO>, Integer> insert(List<ImportRow<EmployeeDTO>> rows,
+                                                        ImportChunk<EmployeeDTO> chunk) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return transactionTemplate.execute(status -> {
+                Map<ImportRow<EmployeeDTO>, Employee> entities = new LinkedHashMap<>();
+                for (ImportRow<EmployeeDTO> row : rows) {
+                    Employee employee = employeeMapper.toEmployeeEntity(row.value());
+                    employee.setEmployeeId(0); // always insert, never overwrite an existing employee
+                    entities.put(row, employee);
+                }
+                employeeRepository.saveAll(entities.values());
+                entityManager.flush();
+                entityManager.clear();
+                Map<ImportRow<EmployeeDTO>, Integer> ids = new HashMap<>();
+                entities.forEach((row, employee) -> ids.put(row, employee.getEmployeeId()));
+                return ids;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (rows.size() == 1) {
+                log.warn("Bulk import row {} rejected: unique constraint violated", rows.get(0).number());
+                chunk.reject(rows.get(0), "Username or email already exists");
+                return Map.of();
+            }
+            int middle = rows.size() / 2;
+            Map<ImportRow<EmployeeDTO>, Integer> ids = new HashMap<>(insert(rows.subList(0, middle), chunk));
+            ids.putAll(insert(rows.subList(middle, rows.size()), chunk));
+            return ids;
+        }
+    }
+
+    private static ImportRow<EmployeeDTO> readRow(MappingIterator<EmployeeDTO> employees, long rowNumber)
+            throws IOException {
+        try {
+            return ImportRow.parsed(rowNumber, employees.nextValue());
+        } catch (MismatchedInputException e) {
+            // The iterator skips the rest of this element on the next hasNextValue()
+            return ImportRow.unparseable(rowNumber, invalidElementError(e));
+        }
+    }
+
+    private static String invalidElementError(MismatchedInputException e) {
+        String field = e.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("."));
+        return field.isEmpty() ? "Row is not an employee object" : "Invalid value for " + field;
+    }
+
+    private static String malformedPayloadError(JsonProcessingException e) {
+        JsonLocation location = e.getLocation();
+        String position = location == null ? ""
+                : " at line " + location.getLineNr() + ", column " + location.getColumnNr();
+        return "Malformed JSON" + position + "; this and any later rows were not imported";
+    }
+
+    private String validate(EmployeeDTO employeeDTO) {
+        if (employeeDTO == null) {
+            return "Employee cannot be null";
+        }
+        Set<ConstraintViolation<Object>> violations = new LinkedHashSet<>(validator.validate((Object) employeeDTO));
+        if (violations.isEmpty()) {
+            violations.addAll(validator.validate((Object) employeeMapper.toEmployeeEntity(employeeDTO)));
+        }
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static EmployeeDTO toEmployee(List<String> values) {
+        var employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName(values.get(0));
+        employeeDTO.setLastName(values.get(1));
+        employeeDTO.setUsername(values.get(2));
+        employeeDTO.setEmail(values.get(3));
+        return employeeDTO;
+    }
+
+    private static int[] csvColumnIndexes(List<String> header) {
+        try {
+            return CsvFormat.columnIndexes(header, CSV_COLUMNS);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidImportPayloadException("CSV header must be: firstName,lastName,username,email");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package code.with.vanilson.securityservice.service;
+
+import code.with.vanilson.securityservice.domain.Employee;
+import code.with.vanilson.securityservice.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.mapper.EmployeeMapper;
+import code.with.vanilson.securityservice.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Writes every employee as newline-delimited JSON straight from a database cursor. Rows are mapped, written
+ * and detached one at a time, so heap use does not depend on the size of the table.
+ */
+@Service
+@Slf4j
+public class EmployeeExportService {
+
+    private static final int NEWLINE = '\n';
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter employeeWriter;
+
+    public EmployeeExportService(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                                 EntityManager entityManager, ObjectMapper objectMapper) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.entityManager = entityManager;
+        this.employeeWriter = objectMapper.writerFor(EmployeeDTO.class);
+    }
+
+    /**
+     * Streams all employees, ordered by ID, to the given output as one JSON object per line.
+     *
+     * @param outputStream the response body to write to; it is flushed but not closed
+     * @return the number of exported employees
+     * @throws IOException if writing to the output fails
+     */
+    @Transactional(readOnly = true)
+    public long exportEmployees(OutputStream outputStream) throws IOException {
+        long exported = 0;
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            var iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                Employee employee = iterator.next();
+                outputStream.write(employeeWriter.writeValueAsBytes(employeeMapper.getEmployeeDTO(employee)));
+                outputStream.write(NEWLINE);
+                entityManager.detach(employee);
+                if (++exported % EmployeeRepository.STREAM_FETCH_SIZE == 0) {
+                    outputStream.flush();
+                }
+            }
+        }
+        outputStream.flush();
+        log.info("Employees exported: {}", exported);
+        return exported;
+    }
+}
@@ -1,14 +1,19 @@
 package code.with.vanilson.securityservice.service;
 
+import code.with.vanilson.securityservice.common.pagination.CursorPage;
+import code.with.vanilson.securityservice.common.pagination.KeysetPageRequest;
 import code.with.vanilson.securityservice.domain.Employee;
 import code.with.vanilson.securityservice.dto.EmployeeDTO;
 import code.with.vanilson.securityservice.exception.CannotSaveEmployeeWithNullValuesException;
 import code.with.vanilson.securityservice.exception.EmployeeNotFoundException;
 import code.with.vanilson.securityservice.exception.EmployeeWithEmailAlreadyExistException;
+import code.with.vanilson.securityservice.logging.LogSummaries;
 import code.with.vanilson.securityservice.mapper.EmployeeMapper;
+import code.with.vanilson.securityservice.pagination.KeysetPageable;
 import code.with.vanilson.securityservice.repository.EmployeeRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,12 +46,32 @@ public class EmployeeService {
      *
      * @return a list of EmployeeDTO representing all employees
      */
+    @Transactional(readOnly = true)
     public List<EmployeeDTO> getAllEmployees() {
         var employees = employeeRepository.findAll();
-        log.info("Employees found: {}", employees);
+        if (log.isDebugEnabled()) {
+            log.debug("Employees found: {} rows, ids {}", employees.size(),
+                    LogSummaries.ids(employees, Employee::getEmployeeId));
+        }
         return employeeMapper.toEmployeeDTO(employees);
     }
 
+    /**
+     * Retrieves one page of employees ordered by employee ID.
+     *
+     * @param pageRequest the keyset page to fetch
+     * @return the page of EmployeeDTO with the cursor of the next page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<EmployeeDTO> getEmployeesPage(KeysetPageRequest pageRequest) {
+        var pageable = KeysetPageable.of(pageRequest, "employeeId");
+        var employees = pageRequest.isAscending()
+                ? employeeRepository.findByEmployeeIdGreaterThan(pageRequest.intAfterKey(0), pageable)
+                : employeeRepository.findByEmployeeIdLessThan(pageRequest.intAfterKey(Integer.MAX_VALUE), pageable);
+        log.debug("Employees page fetched: {} rows", employees.size());
+        return pageRequest.toPage(employees, employeeMapper::getEmployeeDTO, Employee::getEmployeeId);
+    }
+
     /**
      * Retrieves an employee by their ID.
      *
@@ -54,12 +79,9 @@ public class EmployeeService {
      * @return an Optional containing the EmployeeDTO if found, or empty if not found
      * @throws EmployeeNotFoundException if the employee is not found
      */
+    @Transactional(readOnly = true)
     public Optional<EmployeeDTO> getEmployeeById(int id) {
-        return Optional.ofNullable(employeeRepository
-                .findById(id)
-                .stream()
-                .map(employeeMapper::getEmployeeDTO)
-                .findFirst()
+        return Optional.ofNullable(employeeRepository.findEmployeeDTOById(id)
                 .orElseThrow(EmployeeNotFoundException::new));
     }
 
@@ -70,6 +92,7 @@ public class EmployeeService {
      * @return an Optional containing the EmployeeDTO if found, or empty if not found
      * @throws EmployeeNotFoundException if the employee is not found
      */
+    @Transactional(readOnly = true)
     public Optional<EmployeeDTO> getEmployeeByEmail(String email) {
         return Optional.ofNullable(employeeRepository.findEmployeeByEmail(email)
                 .orElseThrow(EmployeeNotFoundException::new));
@@ -81,7 +104,7 @@ public class EmployeeService {
      * @param employeeDTO the EmployeeDTO representing the employee to create
      * @return the created EmployeeDTO
      * @throws CannotSaveEmployeeWithNullValuesException if any required field is null
-     * @throws IllegalArgumentException                  if the username or email is not unique
+     * @throws EmployeeWithEmailAlreadyExistException    if the username or email is not unique
      */
     public EmployeeDTO createEmployee(EmployeeDTO employeeDTO) {
         // Convert DTO to entity
@@ -96,15 +119,21 @@ public class EmployeeService {
             throw new CannotSaveEmployeeWithNullValuesException("Cannot save employee with null values!");
         }
 
-        List<Employee> existingEmployees = employeeRepository.findAll();
-        if (employeeMapper.isEmployeeValidForSave(employee, existingEmployees)) {
-            Employee savedEmployee = employeeRepository.save(employee);
-            log.info("Employee saved: {}", savedEmployee);
-            return employeeMapper.getEmployeeDTO(savedEmployee);
+        // Both columns carry a unique index, so this is a single index lookup whatever the table size
+        if (employeeRepository.existsByUsernameOrEmail(employee.getUsername(), employee.getEmail())) {
+            log.error("Employee creation failed: username or email already exists");
+            throw new EmployeeWithEmailAlreadyExistException();
         }
 
-        // Check uniqueness before saving
-        throw new EmployeeWithEmailAlreadyExistException();
+        try {
+            Employee savedEmployee = employeeRepository.saveAndFlush(employee);
+            log.info("Employee saved: id={}", savedEmployee.getEmployeeId());
+            return employeeMapper.getEmployeeDTO(savedEmployee);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request inserted the same username or email after the check above
+            log.error("Employee creation failed: unique constraint violated");
+            throw new EmployeeWithEmailAlreadyExistException();
+        }
     }
 
     /**
@@ -118,6 +147,6 @@ public class EmployeeService {
                 .findById(id)
                 .orElseThrow(EmployeeNotFoundException::new));
         employeeRepository.deleteById(deleteSuccess.get().getEmployeeId());
-        log.info("Employee deleted: {}", deleteSuccess.get());
+        log.info("Employee deleted: id={}", id);
     }
 }
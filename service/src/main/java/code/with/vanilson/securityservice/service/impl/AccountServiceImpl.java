@@ -0,0 +1,86 @@
+package code.with.vanilson.securityservice.service.impl;
+
+import code.with.vanilson.securityservice.common.pagination.CursorPage;
+import code.with.vanilson.securityservice.common.pagination.KeysetPageRequest;
+import code.with.vanilson.securityservice.domain.Account;
+import code.with.vanilson.securityservice.domain.Role;
+import code.with.vanilson.securityservice.dto.AccountDTO;
+import code.with.vanilson.securityservice.exception.AccountNotFoundException;
+import code.with.vanilson.securityservice.mapper.AccountMapper;
+import code.with.vanilson.securityservice.pagination.KeysetPageable;
+import code.with.vanilson.securityservice.repository.AccountRepository;
+import code.with.vanilson.securityservice.repository.RoleRepository;
+import code.with.vanilson.securityservice.security.UserDetailsCache;
+import code.with.vanilson.securityservice.security.VerifiedCredentialCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.MessageFormat;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountServiceImpl {
+    private static final String DEFAULT_ROLE_CODE = "USER";
+
+    private final AccountRepository accountRepository;
+    private final PasswordEncoder encoder;
+    private final RoleRepository roleRepository;
+    private final VerifiedCredentialCache credentialCache;
+    private final UserDetailsCache userDetailsCache;
+    private final AccountMapper accountMapper;
+
+    @Transactional(readOnly = true)
+    public CursorPage<Account> findPage(KeysetPageRequest pageRequest) {
+        var pageable = KeysetPageable.of(pageRequest, "id");
+        var accounts = pageRequest.isAscending()
+                ? accountRepository.findByIdGreaterThan(pageRequest.afterKey(0), pageable)
+                : accountRepository.findByIdLessThan(pageRequest.afterKey(Long.MAX_VALUE), pageable);
+        // The first initialization batch-loads the roles of every account on the page
+        accounts.forEach(account -> Hibernate.initialize(account.getRoles()));
+        log.debug("Find accounts page: {} rows", accounts.size());
+        return pageRequest.toPage(accounts, Function.identity(), Account::getId);
+    }
+
+    @Transactional
+    public Account createAccount(Account account) {
+        account.setPassword(encoder.encode(account.getPassword()));
+        Role role = roleRepository.findRoleByCode(DEFAULT_ROLE_CODE)
+                .orElseThrow(() -> new IllegalStateException("Role " + DEFAULT_ROLE_CODE + " is not configured"));
+        Set<Role> roles = new HashSet<>();
+        roles.add(role);
+        account.setRoles(roles);
+        var savedAccount = accountRepository.save(account);
+        userDetailsCache.evict(savedAccount.getUsername());
+        return savedAccount;
+    }
+
+    @Transactional(readOnly = true)
+    public AccountDTO findAccountByUsername(String username) {
+        var rows = accountRepository.findAccountRowsByUsername(username);
+        if (rows.isEmpty()) {
+            log.error("Username not found");
+            throw new AccountNotFoundException(username);
+        }
+        var account = accountMapper.fromAccountRows(rows);
+        log.debug("Found account id={}", account.getId());
+        return account;
+    }
+
+    @Transactional
+    public void deleteAccount(long id) {
+        var account = accountRepository.findById(id)
+                .orElseThrow(() -> new AccountNotFoundException(MessageFormat.format("Account not found{0}", id)));
+        log.debug("Delete account id={}", id);
+        accountRepository.delete(account);
+        credentialCache.invalidate(account.getUsername());
+        userDetailsCache.evict(account.getUsername());
+    }
+}
@@ -0,0 +1,78 @@
+package code.with.vanilson.securityservice.service.impl;
+
+import code.with.vanilson.securityservice.domain.Account;
+import code.with.vanilson.securityservice.domain.Role;
+import code.with.vanilson.securityservice.exception.UserHasNoRolesException;
+import code.with.vanilson.securityservice.logging.LogSummaries;
+import code.with.vanilson.securityservice.repository.AccountRepository;
+import code.with.vanilson.securityservice.repository.projection.AccountCredentialsRow;
+import code.with.vanilson.securityservice.security.AccountUserDetails;
+import code.with.vanilson.securityservice.security.AuthenticationMetrics;
+import code.with.vanilson.securityservice.security.RoleAuthorityRegistry;
+import code.with.vanilson.securityservice.security.UserDetailsCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
+    private final AccountRepository accountRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final RoleAuthorityRegistry roleAuthorityRegistry;
+    private final AuthenticationMetrics metrics;
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return metrics.timeUserLookup(() -> userDetailsCache.get(username, this::loadFromRepository));
+    }
+
+    /**
+     * Stores an upgraded hash of the user's password, unless the account changed since the user was loaded.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Account account = accountRepository.findByUsername(user.getUsername());
+        if (account == null || !account.getPassword().equals(user.getPassword())) {
+            log.debug("Password of {} changed or account removed, upgrade skipped", user.getUsername());
+            return user;
+        }
+        account.setPassword(newPassword);
+        accountRepository.save(account);
+        userDetailsCache.evict(account.getUsername());
+        return new AccountUserDetails(account, roleAuthorityRegistry.authoritiesFor(account.getRoles()));
+    }
+
+    /**
+     * Loads the account with one read-only projection query: no managed entity, no role entities.
+     */
+    private UserDetails loadFromRepository(String username) {
+        List<AccountCredentialsRow> rows = accountRepository.findCredentialsByUsername(username);
+        if (rows.isEmpty()) {
+            log.warn("Username {} not found", LogSummaries.capped(username));
+            throw new UsernameNotFoundException("User " + username + " not found");
+        }
+        List<Role> roles = new ArrayList<>(rows.size());
+        for (AccountCredentialsRow row : rows) {
+            if (row.roleId() != null) {
+                roles.add(Role.builder().roleId(row.roleId()).name(row.roleName()).build());
+            }
+        }
+        if (roles.isEmpty()) {
+            log.warn("User {} has no roles", LogSummaries.capped(username));
+            throw new UserHasNoRolesException("User has no roles");
+        }
+        log.debug("loadUserByUsername {}", username);
+        return new AccountUserDetails(rows.get(0), roleAuthorityRegistry.authoritiesFor(roles));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,3 @@
+-- Employee ids are allocated by Hibernate's pooled optimizer in blocks of 50, so inserts can be
+-- JDBC-batched; the sequence increment must match @SequenceGenerator(allocationSize = 50)
+ALTER SEQUENCE employee_id_seq INCREMENT BY 50;
@@ -0,0 +1,3 @@
+-- Account ids are allocated by Hibernate's pooled optimizer in blocks of 50, so creating an account no
+-- longer needs its own nextval round trip; the increment must match @SequenceGenerator(allocationSize = 50)
+ALTER SEQUENCE account_id_seq INCREMENT BY 50;
@@ -0,0 +1,78 @@
+package code.with.vanilson.securityservice;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Starts the service under {@code prod,fast-start} against an embedded PostgreSQL migrated by Flyway only, so a
+ * mapping that only {@code ddl-auto: update} could satisfy fails schema validation here.
+ */
+@SpringBootTest(properties = {
+        "security.jwt.secret=ZmFzdC1zdGFydC1pdC1zaWduaW5nLWtleS0zMi1ieXRlcy1sb25n",
+        "security.password-hashing.bcrypt-strength=4"
+})
+@ActiveProfiles({"prod", "fast-start"})
+@AutoConfigureMockMvc
+@WithMockUser
+class FastStartProfileIT {
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    @DisplayName("The mappings validate against the Flyway schema and requests are served")
+    void testStartsWithSchemaValidation() throws Exception {
+        mockMvc.perform(get("/api/employees").param("size", "20"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Persistence and the password encoder stay eager, other beans are lazy")
+    void testLazyInitialization() {
+        Assertions.assertFalse(beanFactory.getBeanDefinition("entityManagerFactory").isLazyInit());
+        Assertions.assertFalse(beanFactory.getBeanDefinition("passwordEncoder").isLazyInit());
+        Assertions.assertTrue(beanFactory.getBeanDefinition("employeeExportService").isLazyInit());
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start embedded PostgreSQL", e);
+        }
+    }
+}
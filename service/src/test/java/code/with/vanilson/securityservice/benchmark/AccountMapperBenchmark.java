@@ -0,0 +1,94 @@
+package code.with.vanilson.securityservice.benchmark;
+
+import code.with.vanilson.securityservice.domain.Account;
+import code.with.vanilson.securityservice.domain.Role;
+import code.with.vanilson.securityservice.dto.AccountDTO;
+import code.with.vanilson.securityservice.mapper.AccountMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of mapping accounts to DTOs. {@code toAccountDTOList} scales with the number of rows;
+ * {@code legacyHashOnRead} reproduces the previous mapper, which ran one BCrypt encode per row, and is
+ * kept at small row counts because it is several orders of magnitude slower.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountMapperBenchmark {
+
+    private static final PasswordEncoder PASSWORD_ENCODER = new BCryptPasswordEncoder();
+
+    @State(Scope.Benchmark)
+    public static class Accounts {
+        @Param({"10", "100", "1000"})
+        int rows;
+
+        AccountMapper accountMapper;
+        List<Account> accounts;
+
+        @Setup
+        public void setUp() {
+            accountMapper = new AccountMapper(PASSWORD_ENCODER);
+            accounts = accounts(rows);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LegacyAccounts {
+        @Param({"1", "10"})
+        int rows;
+
+        AccountMapper accountMapper;
+        List<Account> accounts;
+
+        @Setup
+        public void setUp() {
+            accountMapper = new AccountMapper(PASSWORD_ENCODER);
+            accounts = accounts(rows);
+        }
+    }
+
+    @Benchmark
+    public AccountDTO toAccountDTO(Accounts state) {
+        return state.accountMapper.toAccountDTO(state.accounts.get(0));
+    }
+
+    @Benchmark
+    public List<AccountDTO> toAccountDTOList(Accounts state) {
+        return state.accountMapper.toAccountDTOList(state.accounts);
+    }
+
+    @Benchmark
+    public List<AccountDTO> legacyHashOnRead(LegacyAccounts state) {
+        List<AccountDTO> accountDTOs = state.accountMapper.toAccountDTOList(state.accounts);
+        for (int i = 0; i < accountDTOs.size(); i++) {
+            accountDTOs.get(i).setPassword(PASSWORD_ENCODER.encode(state.accounts.get(i).getPassword()));
+        }
+        return accountDTOs;
+    }
+
+    static List<Account> accounts(int rows) {
+        Set<Role> roles = Set.of(Role.builder().roleId(2L).name("User").code("USER").build());
+        String encodedPassword = PASSWORD_ENCODER.encode("benchmark-password");
+        List<Account> accounts = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            accounts.add(Account.builder()
+                    .id(id)
+                    .username("user" + id)
+                    .password(encodedPassword)
+                    .enabled(true)
+                    .roles(roles)
+                    .build());
+        }
+        return accounts;
+    }
+}
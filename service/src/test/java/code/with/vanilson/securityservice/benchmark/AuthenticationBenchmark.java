@@ -0,0 +1,78 @@
+package code.with.vanilson.securityservice.benchmark;
+
+import code.with.vanilson.securityservice.security.AccountAuthenticationProvider;
+import code.with.vanilson.securityservice.security.AuthenticationMetrics;
+import code.with.vanilson.securityservice.security.JwtService;
+import code.with.vanilson.securityservice.security.PasswordRehashService;
+import code.with.vanilson.securityservice.security.VerifiedCredentialCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authentication cost of HTTP Basic (user lookup + BCrypt) against a bearer access token
+ * (signature check only). The user lookup is stubbed, so the Basic numbers are an upper bound: in
+ * production each Basic request also pays a database round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private static final String USERNAME = "benchmark";
+    private static final String PASSWORD = "benchmark-password";
+    private static final String JWT_SECRET = "c2VjdXJpdHktc2VydmljZS1iZW5jaG1hcmstc2lnbmluZy1rZXktMzItYnl0ZXM=";
+
+    private AccountAuthenticationProvider basicProvider;
+    private AccountAuthenticationProvider cachedBasicProvider;
+    private JwtService jwtService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        PasswordEncoder encoder = new BCryptPasswordEncoder();
+        UserDetails user = User.withUsername(USERNAME)
+                .password(encoder.encode(PASSWORD))
+                .authorities("User")
+                .build();
+
+        var rehashService = new PasswordRehashService(encoder, (upgraded, newPassword) -> upgraded);
+        var metrics = new AuthenticationMetrics(new SimpleMeterRegistry());
+        basicProvider = new AccountAuthenticationProvider(username -> User.withUserDetails(user).build(), encoder,
+                new VerifiedCredentialCache(false, Duration.ofMinutes(5), 1000, new SimpleMeterRegistry()),
+                rehashService, metrics);
+        cachedBasicProvider = new AccountAuthenticationProvider(username -> User.withUserDetails(user).build(), encoder,
+                new VerifiedCredentialCache(true, Duration.ofMinutes(5), 1000, new SimpleMeterRegistry()),
+                rehashService, metrics);
+
+        jwtService = new JwtService(JWT_SECRET, Duration.ofMinutes(15), Duration.ofDays(7));
+        accessToken = jwtService.issueAccessToken(user);
+    }
+
+    @Benchmark
+    public Authentication basic() {
+        return basicProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, PASSWORD));
+    }
+
+    @Benchmark
+    public Authentication basicWithCredentialCache() {
+        return cachedBasicProvider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, PASSWORD));
+    }
+
+    @Benchmark
+    public Authentication jwt() {
+        return jwtService.authenticate(accessToken);
+    }
+}
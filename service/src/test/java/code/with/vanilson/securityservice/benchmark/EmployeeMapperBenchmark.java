@@ -0,0 +1,88 @@
+package code.with.vanilson.securityservice.benchmark;
+
+import code.with.vanilson.securityservice.domain.Employee;
+import code.with.vanilson.securityservice.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.mapper.EmployeeMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the employee mapping and pre-save validation paths. {@code validateForSave} measures the bean
+ * validation of a submitted employee, which replaced the mapper's {@code isEmployeeValidForSave} scan; the
+ * uniqueness check is now a database query and is covered by the load tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeMapperBenchmark {
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+    private EmployeeDTO employeeDTO;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    @State(Scope.Benchmark)
+    public static class Employees {
+        @Param({"10", "100", "1000"})
+        int rows;
+
+        List<Employee> employees;
+
+        @Setup
+        public void setUp() {
+            employees = employees(rows);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        employeeDTO = employeeMapper.getEmployeeDTO(employees(1).get(0));
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> toEmployeeDTO(Employees state) {
+        return employeeMapper.toEmployeeDTO(state.employees);
+    }
+
+    @Benchmark
+    public Employee toEmployeeEntity() {
+        return employeeMapper.toEmployeeEntity(employeeDTO);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeDTO>> validateForSave() {
+        return validator.validate(employeeDTO);
+    }
+
+    static List<Employee> employees(int rows) {
+        List<Employee> employees = new ArrayList<>(rows);
+        for (int id = 1; id <= rows; id++) {
+            employees.add(Employee.builder()
+                    .employeeId(id)
+                    .firstName("First" + id)
+                    .lastName("Last" + id)
+                    .username("user" + id)
+                    .email("user" + id + "@example.com")
+                    .build());
+        }
+        return employees;
+    }
+}
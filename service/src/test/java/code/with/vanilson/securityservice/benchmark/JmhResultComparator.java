@@ -0,0 +1,128 @@
+package code.with.vanilson.securityservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Compares two JMH JSON result files, typically the previous release against the current build, and exits
+ * with status 1 if any benchmark regressed.
+ * <p>
+ * Benchmarks are matched by name and parameters. The primary score regresses when it is worse than the
+ * baseline by more than the threshold and by more than the two error margins combined; throughput is better
+ * when higher, every other mode when lower. When both files carry {@code gc.alloc.rate.norm}, allocation per
+ * operation regresses when it grows by more than the threshold and by at least {@value #ALLOCATION_NOISE_BYTES}
+ * bytes. A benchmark of the baseline that is missing from the current run, or ran in another mode, also fails
+ * the comparison, so a renamed or crashed benchmark cannot pass unnoticed.
+ * <p>
+ * Usage: {@code JmhResultComparator <baseline.json> <current.json> [threshold, default 0.10]}
+ */
+public final class JmhResultComparator {
+
+    static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    static final double ALLOCATION_NOISE_BYTES = 16;
+
+    private JmhResultComparator() {
+    }
+
+    record Result(String key, String mode, double score, double error, String unit, Double allocatedBytes) {
+    }
+
+    record Change(String key, String metric, double baseline, double current, String unit, boolean regression) {
+        double relative() {
+            return baseline == 0 ? 0 : (current - baseline) / baseline;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: JmhResultComparator <baseline.json> <current.json> [threshold]");
+            System.exit(2);
+        }
+        File baselineFile = new File(args[0]);
+        if (args[0].isBlank() || !baselineFile.isFile()) {
+            System.err.println("Baseline not found: '" + args[0] + "'. Pass the jmh-result.json of the reference "
+                    + "build with -Djmh.baseline=<path>");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+        List<Result> baseline = read(baselineFile);
+        List<Result> current = read(new File(args[1]));
+        List<Change> changes = compare(baseline, current, threshold);
+        List<Result> missing = missing(baseline, current);
+
+        for (Change change : changes) {
+            System.out.printf("%-4s %-90s %-20s %14.3f -> %14.3f %-10s %+7.1f%%%n",
+                    change.regression() ? "FAIL" : "ok", change.key(), change.metric(), change.baseline(),
+                    change.current(), change.unit(), change.relative() * 100);
+        }
+        for (Result result : missing) {
+            System.out.printf("MISS %-90s %-20s not in the current run%n", result.key(), result.mode());
+        }
+        long regressions = changes.stream().filter(Change::regression).count();
+        System.out.printf("%d comparisons, %d regressions, %d missing (threshold %.0f%%)%n",
+                changes.size(), regressions, missing.size(), threshold * 100);
+        if (regressions > 0 || !missing.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    static List<Result> read(File file) throws IOException {
+        List<Result> results = new ArrayList<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode allocation = run.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            results.add(new Result(key(run), run.path("mode").asText(), primary.path("score").asDouble(),
+                    primary.path("scoreError").asDouble(0), primary.path("scoreUnit").asText(),
+                    allocation.isMissingNode() ? null : allocation.path("score").asDouble()));
+        }
+        return results;
+    }
+
+    static List<Change> compare(List<Result> baseline, List<Result> current, double threshold) {
+        Map<String, Result> baselineByKey = new HashMap<>();
+        baseline.forEach(result -> baselineByKey.put(result.key(), result));
+        List<Change> changes = new ArrayList<>();
+        for (Result now : current) {
+            Result before = baselineByKey.get(now.key());
+            if (before == null || !before.mode().equals(now.mode())) {
+                continue;
+            }
+            boolean higherIsBetter = "thrpt".equals(now.mode());
+            double worseBy = higherIsBetter ? before.score() - now.score() : now.score() - before.score();
+            boolean scoreRegression = worseBy > before.score() * threshold && worseBy > before.error() + now.error();
+            changes.add(new Change(now.key(), now.mode(), before.score(), now.score(), now.unit(), scoreRegression));
+
+            if (before.allocatedBytes() != null && now.allocatedBytes() != null) {
+                double grownBy = now.allocatedBytes() - before.allocatedBytes();
+                boolean allocationRegression = grownBy > before.allocatedBytes() * threshold
+                        && grownBy >= ALLOCATION_NOISE_BYTES;
+                changes.add(new Change(now.key(), ALLOCATION_METRIC, before.allocatedBytes(), now.allocatedBytes(),
+                        "B/op", allocationRegression));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * @return the baseline results with no current result of the same key and mode
+     */
+    static List<Result> missing(List<Result> baseline, List<Result> current) {
+        Set<String> ran = new HashSet<>();
+        current.forEach(result -> ran.add(result.key() + ' ' + result.mode()));
+        return baseline.stream()
+                .filter(result -> !ran.contains(result.key() + ' ' + result.mode()))
+                .toList();
+    }
+
+    private static String key(JsonNode run) {
+        var key = new StringBuilder(run.path("benchmark").asText());
+        var params = new TreeMap<String, String>();
+        run.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+        params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+        return key.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package code.with.vanilson.securityservice.benchmark;
+
+import code.with.vanilson.securityservice.benchmark.JmhResultComparator.Change;
+import code.with.vanilson.securityservice.benchmark.JmhResultComparator.Result;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class JmhResultComparatorTest {
+
+    @Test
+    @DisplayName("Slower average time beyond threshold and error is a regression")
+    void testCompare_AverageTimeRegression() {
+        List<Change> changes = JmhResultComparator.compare(
+                List.of(new Result("mapper rows=10", "avgt", 100, 2, "us/op", null)),
+                List.of(new Result("mapper rows=10", "avgt", 120, 2, "us/op", null)), 0.10);
+
+        Assertions.assertEquals(1, changes.size());
+        Assertions.assertTrue(changes.get(0).regression());
+    }
+
+    @Test
+    @DisplayName("Change within the error margins is not a regression")
+    void testCompare_WithinError() {
+        List<Change> changes = JmhResultComparator.compare(
+                List.of(new Result("auth", "thrpt", 1000, 150, "ops/s", null)),
+                List.of(new Result("auth", "thrpt", 850, 100, "ops/s", null)), 0.10);
+
+        Assertions.assertFalse(changes.get(0).regression());
+    }
+
+    @Test
+    @DisplayName("Allocation growth per operation is a regression")
+    void testCompare_AllocationRegression() {
+        List<Change> changes = JmhResultComparator.compare(
+                List.of(new Result("authorities", "avgt", 10, 1, "ns/op", 0.0)),
+                List.of(new Result("authorities", "avgt", 10, 1, "ns/op", 96.0)), 0.10);
+
+        Assertions.assertEquals(2, changes.size());
+        Assertions.assertFalse(changes.get(0).regression());
+        Assertions.assertTrue(changes.get(1).regression());
+    }
+
+    @Test
+    @DisplayName("Baseline benchmarks missing from the current run are reported")
+    void testMissing() {
+        List<Result> baseline = List.of(
+                new Result("auth", "thrpt", 1000, 10, "ops/s", null),
+                new Result("mapper rows=10", "avgt", 100, 2, "us/op", null),
+                new Result("mapper rows=100", "avgt", 900, 9, "us/op", null));
+        List<Result> current = List.of(
+                new Result("auth", "avgt", 1, 0.1, "ms/op", null),
+                new Result("mapper rows=10", "avgt", 100, 2, "us/op", null),
+                new Result("export", "avgt", 50, 1, "us/op", null));
+
+        List<Result> missing = JmhResultComparator.missing(baseline, current);
+
+        // "auth" ran in another mode, so its baseline score was not compared either
+        Assertions.assertEquals(List.of("auth", "mapper rows=100"), missing.stream().map(Result::key).toList());
+    }
+}
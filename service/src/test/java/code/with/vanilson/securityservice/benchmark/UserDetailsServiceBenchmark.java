@@ -0,0 +1,102 @@
+package code.with.vanilson.securityservice.benchmark;
+
+import code.with.vanilson.securityservice.domain.Account;
+import code.with.vanilson.securityservice.domain.Role;
+import code.with.vanilson.securityservice.repository.AccountRepository;
+import code.with.vanilson.securityservice.repository.RoleRepository;
+import code.with.vanilson.securityservice.repository.projection.AccountCredentialsRow;
+import code.with.vanilson.securityservice.security.AuthenticationMetrics;
+import code.with.vanilson.securityservice.security.RoleAuthorityRegistry;
+import code.with.vanilson.securityservice.security.UserDetailsCache;
+import code.with.vanilson.securityservice.service.impl.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Cost of turning an account into {@link UserDetails} on a user-details cache miss. Run with the GC profiler
+ * (the default of the benchmarks profile) and compare {@code gc.alloc.rate.norm}: {@code legacyAuthorities}
+ * reproduces the previous per-login stream of new authorities, {@code internedAuthorities} the registry
+ * lookup. Repositories are stubbed, so no database time is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserDetailsServiceBenchmark {
+
+    private static final String USERNAME = "benchmark";
+
+    private Account account;
+    private RoleAuthorityRegistry roleAuthorityRegistry;
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Setup
+    public void setUp() {
+        List<Role> roles = List.of(
+                Role.builder().roleId(1L).name("Admin").code("ADMIN").build(),
+                Role.builder().roleId(2L).name("User").code("USER").build(),
+                Role.builder().roleId(3L).name("Manager").code("MANAGER").build());
+        account = Account.builder()
+                .id(1L)
+                .username(USERNAME)
+                .password("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmar")
+                .enabled(true)
+                .roles(new HashSet<>(roles.subList(0, 2)))
+                .build();
+
+        roleAuthorityRegistry = new RoleAuthorityRegistry(stub(RoleRepository.class, "findAll", roles));
+        roleAuthorityRegistry.refresh();
+        List<AccountCredentialsRow> credentials = account.getRoles().stream()
+                .map(role -> new AccountCredentialsRow(USERNAME, account.getPassword(), true, false, false, false,
+                        role.getRoleId(), role.getName()))
+                .toList();
+        userDetailsService = new UserDetailsServiceImpl(
+                stub(AccountRepository.class, "findCredentialsByUsername", credentials),
+                new UserDetailsCache(false, Duration.ofMinutes(1), 1, new SimpleMeterRegistry()),
+                roleAuthorityRegistry, new AuthenticationMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> legacyAuthorities() {
+        return account.getRoles().stream()
+                .map(role -> new SimpleGrantedAuthority(role.getName())).collect(toList());
+    }
+
+    @Benchmark
+    public Set<GrantedAuthority> internedAuthorities() {
+        return roleAuthorityRegistry.authoritiesFor(account.getRoles());
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername(USERNAME);
+    }
+
+    /**
+     * A repository whose only working method is {@code method}, returning {@code result}.
+     */
+    private static <T> T stub(Class<T> repository, String method, Object result) {
+        return repository.cast(Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (proxy, invoked, args) -> {
+                    if (invoked.getName().equals(method)) {
+                        return result;
+                    }
+                    throw new UnsupportedOperationException(invoked.getName());
+                }));
+    }
+}
@@ -0,0 +1,141 @@
+package code.with.vanilson.securityservice.loadtest;
+
+import code.with.vanilson.securityservice.SecurityServiceApplication;
+import code.with.vanilson.securityservice.domain.Account;
+import code.with.vanilson.securityservice.persistence.QueryCounter;
+import code.with.vanilson.securityservice.repository.AccountRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures account insert throughput through {@code AccountRepository} with account ids allocated one at a
+ * time ({@code allocationSize = 1}, a {@code nextval} round trip per insert) and from the pooled sequence
+ * ({@code allocationSize = 50}), each against its own embedded PostgreSQL.
+ * <p>
+ * The unpooled variant restores the sequence to {@code INCREMENT BY 1}, as before the V3 migration, and starts
+ * Hibernate with {@code increment_size_mismatch_strategy=fix}, which makes the generator follow the database
+ * increment instead of the mapping. Inserts go straight to the repository, one account per transaction as
+ * {@code createAccount} does, so the saved round trip is not hidden behind BCrypt. Reports inserts per second,
+ * latency percentiles and SQL statements per insert for both variants, and the throughput ratio. The embedded
+ * database refuses to run as root.
+ */
+public final class AccountInsertBenchmark {
+
+    private static final String JWT_SECRET = "YWNjb3VudC1pbnNlcnQtYmVuY2htYXJrLXNpZ25pbmcta2V5LTMyLWJ5dGVz";
+
+    private record Variant(String name, int allocationSize) {
+    }
+
+    private static final List<Variant> VARIANTS = List.of(
+            new Variant("allocation-size-1", 1),
+            new Variant("allocation-size-50", 50));
+
+    private AccountInsertBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = LoadTestProperties.integer("load.account-insert.concurrency", 8);
+        Duration warmup = LoadTestProperties.duration("load.account-insert.warmup", "5s");
+        Duration duration = LoadTestProperties.duration("load.account-insert.duration", "15s");
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", duration.toSeconds());
+        List<Double> insertsPerSecond = new ArrayList<>();
+        for (Variant variant : VARIANTS) {
+            Map<String, Object> result = run(variant, concurrency, warmup, duration);
+            insertsPerSecond.add((Double) result.get("insertsPerSecond"));
+            report.put(variant.name(), result);
+        }
+        double ratio = insertsPerSecond.get(1) / insertsPerSecond.get(0);
+        System.out.printf("Throughput with allocationSize 50 relative to 1: %.2f%n", ratio);
+        report.put("pooledToUnpooledThroughputRatio", ratio);
+        LoadTestProperties.write(report, System.getProperty("load.output"));
+        System.exit(0);
+    }
+
+    private static Map<String, Object> run(Variant variant, int concurrency, Duration warmup, Duration duration)
+            throws Exception {
+        try (var postgres = EmbeddedPostgres.builder().start()) {
+            Flyway.configure()
+                    .dataSource(postgres.getPostgresDatabase())
+                    .locations("classpath:db/migration/")
+                    .load()
+                    .migrate();
+            new JdbcTemplate(postgres.getPostgresDatabase()).execute(
+                    "ALTER SEQUENCE account_id_seq INCREMENT BY " + variant.allocationSize());
+
+            try (ConfigurableApplicationContext app = start(postgres)) {
+                AccountRepository accountRepository = app.getBean(AccountRepository.class);
+                TransactionTemplate transactionTemplate = app.getBean(TransactionTemplate.class);
+                var statements = new AtomicLong();
+                String runId = variant.name() + "-" + Long.toString(System.currentTimeMillis(), 36);
+
+                ClosedLoopLoad.run("warm-up", sequence -> insert(accountRepository, transactionTemplate,
+                        runId + "-warmup-" + sequence, new AtomicLong()), concurrency, warmup);
+                ClosedLoopLoad.Result result = ClosedLoopLoad.run(variant.name(), sequence -> insert(
+                        accountRepository, transactionTemplate, runId + "-" + sequence, statements),
+                        concurrency, duration);
+                ClosedLoopLoad.print("accounts", result);
+
+                double statementsPerInsert = statements.get() / (double) result.requests();
+                System.out.printf("%-10s %-36s statements per insert=%.2f%n", "accounts", variant.name(),
+                        statementsPerInsert);
+                if (variant.allocationSize() == 1 && statementsPerInsert < 1.5) {
+                    throw new IllegalStateException("Ids were not allocated one at a time: the sequence increment "
+                            + "was not picked up by Hibernate");
+                }
+
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("allocationSize", variant.allocationSize());
+                summary.put("insertsPerSecond", result.rps());
+                summary.put("inserts", result.requests());
+                summary.put("errors", result.errors());
+                summary.put("statementsPerInsert", statementsPerInsert);
+                summary.put("p50Ms", result.p50Ms());
+                summary.put("p95Ms", result.p95Ms());
+                summary.put("p99Ms", result.p99Ms());
+                return summary;
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(EmbeddedPostgres postgres) {
+        return new SpringApplicationBuilder(SecurityServiceApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.jpa.properties.hibernate.id.sequence.increment_size_mismatch_strategy=fix",
+                "--logging.level.root=WARN",
+                "--security.jwt.secret=" + JWT_SECRET);
+    }
+
+    private static boolean insert(AccountRepository accountRepository, TransactionTemplate transactionTemplate,
+                                  String username, AtomicLong statements) {
+        var account = new Account();
+        account.setUsername("insert-" + username);
+        account.setPassword("{noop}unused");
+        QueryCounter.start();
+        try {
+            transactionTemplate.executeWithoutResult(status -> accountRepository.save(account));
+        } finally {
+            statements.addAndGet(QueryCounter.stop());
+        }
+        return true;
+    }
+}
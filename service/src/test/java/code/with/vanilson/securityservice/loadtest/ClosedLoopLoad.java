@@ -0,0 +1,115 @@
+package code.with.vanilson.securityservice.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Drives a fixed number of clients, each sending its next request as soon as the previous one completed, for a
+ * fixed duration, and summarises the latencies. Responses with a status of 400 or above count as errors.
+ */
+final class ClosedLoopLoad {
+
+    private ClosedLoopLoad() {
+    }
+
+    /**
+     * Latency summary of one run; times are in milliseconds.
+     */
+    record Result(String name, int concurrency, long requests, long errors, double rps,
+                  double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    /**
+     * A unit of work driven by the clients.
+     */
+    @FunctionalInterface
+    interface Call {
+        /**
+         * @param sequence a number that is unique within the run
+         * @return whether the call succeeded; a call that throws counts as an error too
+         */
+        boolean run(long sequence) throws Exception;
+    }
+
+    /**
+     * @param requests builds the request for a sequence number that is unique within the run
+     */
+    static Result run(String name, HttpClient client, LongFunction<HttpRequest> requests, int concurrency,
+                      Duration duration) throws InterruptedException {
+        return run(name, sequence -> client.send(requests.apply(sequence), HttpResponse.BodyHandlers.discarding())
+                .statusCode() < 400, concurrency, duration);
+    }
+
+    /**
+     * Drives in-process calls, such as service or repository methods, the way {@link #run(String, HttpClient,
+     * LongFunction, int, Duration)} drives HTTP requests.
+     */
+    static Result run(String name, Call call, int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        var sequence = new AtomicLong();
+        var errors = new AtomicLong();
+        var latencies = new long[concurrency][];
+        var counts = new int[concurrency];
+
+        try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int clientIndex = i;
+                clients.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            if (!call.run(sequence.incrementAndGet())) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                    latencies[clientIndex] = samples;
+                    counts[clientIndex] = count;
+                });
+            }
+        }
+
+        long total = Arrays.stream(counts).asLongStream().sum();
+        long[] all = new long[(int) total];
+        int offset = 0;
+        for (int i = 0; i < concurrency; i++) {
+            System.arraycopy(latencies[i], 0, all, offset, counts[i]);
+            offset += counts[i];
+        }
+        Arrays.sort(all);
+        return new Result(name, concurrency, total, errors.get(), total / (double) duration.toSeconds(),
+                percentileMillis(all, 0.50), percentileMillis(all, 0.95), percentileMillis(all, 0.99),
+                all.length == 0 ? 0.0 : all[all.length - 1] / 1_000_000.0);
+    }
+
+    static void print(String label, Result result) {
+        System.out.printf("%-10s %-36s concurrency=%-5d rps=%-10.1f p50=%-8.2fms p95=%-8.2fms p99=%-8.2fms errors=%d%n",
+                label, result.name(), result.concurrency(), result.rps(), result.p50Ms(), result.p95Ms(),
+                result.p99Ms(), result.errors());
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
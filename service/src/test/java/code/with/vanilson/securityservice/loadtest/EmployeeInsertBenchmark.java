@@ -0,0 +1,140 @@
+package code.with.vanilson.securityservice.loadtest;
+
+import code.with.vanilson.securityservice.SecurityServiceApplication;
+import code.with.vanilson.securityservice.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.service.EmployeeService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures employee creation throughput at growing table sizes, to show that its cost does not depend on how
+ * many employees already exist.
+ * <p>
+ * Boots the service against an embedded PostgreSQL, then for each size in {@code load.insert.table-sizes}
+ * (default 10k, 100k and 1M rows) tops the employees table up to that size, warms up, and drives
+ * {@code EmployeeService.createEmployee} (the indexed uniqueness check plus the insert) in-process with
+ * {@code load.insert.concurrency} clients for {@code load.insert.duration}. Calling the service rather than
+ * {@code POST /api/employees} keeps HTTP, security and JSON out of the numbers. Prints and writes inserts per
+ * second and latency percentiles per size, and the throughput at the largest size relative to the smallest. The
+ * embedded database refuses to run as root.
+ */
+public final class EmployeeInsertBenchmark {
+
+    private static final String JWT_SECRET = "ZW1wbG95ZWUtaW5zZXJ0LWJlbmNobWFyay1zaWduaW5nLWtleS0zMi1ieXRlcw==";
+
+    private EmployeeInsertBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] tableSizes = Arrays.stream(System.getProperty("load.insert.table-sizes", "10000,100000,1000000")
+                .split(",")).map(String::trim).mapToInt(Integer::parseInt).sorted().toArray();
+        int concurrency = LoadTestProperties.integer("load.insert.concurrency", 8);
+        Duration warmup = LoadTestProperties.duration("load.insert.warmup", "5s");
+        Duration duration = LoadTestProperties.duration("load.insert.duration", "15s");
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        try (var postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext app = start(postgres)) {
+            var jdbc = new JdbcTemplate(app.getBean(DataSource.class));
+            EmployeeService employeeService = app.getBean(EmployeeService.class);
+            String runId = Long.toString(System.currentTimeMillis(), 36);
+
+            List<Map<String, Object>> results = new ArrayList<>();
+            List<Double> insertsPerSecond = new ArrayList<>();
+            long seeded = 0;
+            for (int tableSize : tableSizes) {
+                seeded += topUp(jdbc, tableSize, seeded);
+                long rows = count(jdbc);
+                String label = runId + "-" + tableSize;
+                ClosedLoopLoad.run("warm-up", sequence -> create(employeeService, label + "-warmup", sequence),
+                        concurrency, warmup);
+                ClosedLoopLoad.Result result = ClosedLoopLoad.run(rows + " rows",
+                        sequence -> create(employeeService, label, sequence), concurrency, duration);
+                ClosedLoopLoad.print("insert", result);
+                insertsPerSecond.add(result.rps());
+
+                Map<String, Object> size = new LinkedHashMap<>();
+                size.put("tableSize", tableSize);
+                size.put("rowsBeforeMeasurement", rows);
+                size.put("insertsPerSecond", result.rps());
+                size.put("inserts", result.requests());
+                size.put("errors", result.errors());
+                size.put("p50Ms", result.p50Ms());
+                size.put("p95Ms", result.p95Ms());
+                size.put("p99Ms", result.p99Ms());
+                results.add(size);
+            }
+
+            double ratio = insertsPerSecond.get(insertsPerSecond.size() - 1) / insertsPerSecond.get(0);
+            System.out.printf("Throughput at %d rows relative to %d rows: %.2f%n",
+                    tableSizes[tableSizes.length - 1], tableSizes[0], ratio);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("concurrency", concurrency);
+            report.put("durationSecondsPerSize", duration.toSeconds());
+            report.put("sizes", results);
+            report.put("largestToSmallestThroughputRatio", ratio);
+            LoadTestProperties.write(report, System.getProperty("load.output"));
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start(EmbeddedPostgres postgres) {
+        return new SpringApplicationBuilder(SecurityServiceApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--security.jwt.secret=" + JWT_SECRET);
+    }
+
+    /**
+     * Inserts seed employees until the table holds {@code tableSize} rows, in one statement, then refreshes the
+     * planner statistics so the measurement sees the plan a table of that size gets.
+     *
+     * @return the number of seed employees inserted
+     */
+    private static long topUp(JdbcTemplate jdbc, int tableSize, long seeded) {
+        long missing = tableSize - count(jdbc);
+        if (missing <= 0) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        jdbc.update("INSERT INTO employees (employee_id, firstname, lastname, username, email) "
+                + "SELECT nextval('employee_id_seq'), 'Seed', 'Employee', 'seed-' || n, "
+                + "'seed-' || n || '@example.com' FROM generate_series(?::bigint, ?::bigint) AS n",
+                seeded + 1, seeded + missing);
+        jdbc.execute("ANALYZE employees");
+        System.out.printf("Seeded %d employees up to %d rows in %d ms%n", missing, tableSize,
+                (System.nanoTime() - start) / 1_000_000);
+        return missing;
+    }
+
+    private static long count(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT count(*) FROM employees", Long.class);
+    }
+
+    private static boolean create(EmployeeService employeeService, String label, long sequence) {
+        String username = "insert-" + label + "-" + sequence;
+        var employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("Insert");
+        employeeDTO.setLastName("Benchmark");
+        employeeDTO.setUsername(username);
+        employeeDTO.setEmail(username + "@example.com");
+        employeeService.createEmployee(employeeDTO);
+        return true;
+    }
+}
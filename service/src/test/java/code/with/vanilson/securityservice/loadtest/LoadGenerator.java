@@ -0,0 +1,83 @@
+package code.with.vanilson.securityservice.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Closed-loop HTTP load generator for comparing a running instance in platform-thread and virtual-thread mode.
+ * <p>
+ * For each concurrency level, that many clients send requests back to back for the configured duration,
+ * cycling through the paths. Per level it reports throughput, latency percentiles and the error count; the
+ * highest level served without errors and within ten times the p99 of the first level is the sustainable
+ * concurrency. Configured with system properties, see the {@code load-test} Maven profile.
+ */
+public final class LoadGenerator {
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI target = URI.create(System.getProperty("load.target", "http://localhost:8082"));
+        List<String> paths = List.of(System.getProperty("load.paths", "/api/employees").split(","));
+        String authorization = System.getProperty("load.authorization", "");
+        int[] concurrencyLevels = Arrays.stream(System.getProperty("load.concurrency", "200").split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim()))
+                .toArray();
+        Duration duration = LoadTestProperties.duration("load.duration", "30s");
+        String label = System.getProperty("load.label", "run");
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<ClosedLoopLoad.Result> levels = new ArrayList<>();
+        for (int concurrency : concurrencyLevels) {
+            ClosedLoopLoad.Result level = ClosedLoopLoad.run(String.join(",", paths), client,
+                    sequence -> request(target, paths.get((int) (sequence % paths.size())), authorization),
+                    concurrency, duration);
+            levels.add(level);
+            ClosedLoopLoad.print(label, level);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("label", label);
+        result.put("target", target.toString());
+        result.put("paths", paths);
+        result.put("durationSeconds", duration.toSeconds());
+        result.put("maxSustainedConcurrency", maxSustainedConcurrency(levels));
+        result.put("levels", levels);
+        LoadTestProperties.write(result, System.getProperty("load.output"));
+    }
+
+    private static HttpRequest request(URI target, String path, String authorization) {
+        var builder = HttpRequest.newBuilder(target.resolve(path.trim()))
+                .timeout(Duration.ofSeconds(60))
+                .GET();
+        if (!authorization.isBlank()) {
+            builder.header("Authorization", authorization);
+        }
+        return builder.build();
+    }
+
+    private static int maxSustainedConcurrency(List<ClosedLoopLoad.Result> levels) {
+        if (levels.isEmpty()) {
+            return 0;
+        }
+        double baselineP99 = levels.get(0).p99Ms();
+        int sustained = 0;
+        for (ClosedLoopLoad.Result level : levels) {
+            if (level.errors() == 0 && level.p99Ms() <= Math.max(baselineP99 * 10, 1.0)) {
+                sustained = level.concurrency();
+            }
+        }
+        return sustained;
+    }
+}
@@ -0,0 +1,242 @@
+package code.with.vanilson.securityservice.loadtest;
+
+import code.with.vanilson.securityservice.SecurityServiceApplication;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.function.LongFunction;
+
+/**
+ * End-to-end load test that runs fully offline: boots the service against an embedded PostgreSQL, seeds
+ * employees and accounts, logs in once, and then drives each endpoint of {@code EmployeeController},
+ * {@code AccountController} and the login in turn with concurrent bearer-authenticated clients.
+ * <p>
+ * Reports requests per second and p50/p95/p99 latency per endpoint. Write endpoints create or delete unique
+ * rows, so the insert path (pooled sequences, batching) and account creation are measured too. Configured
+ * with system properties, see the {@code load-test} Maven profile. Run at {@code load.log-level=INFO}, with and
+ * without the {@code sync-logs} profile, to see what request logging costs. The embedded database refuses to
+ * run as root.
+ */
+public final class LoadTestHarness {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final String JWT_SECRET = "bG9hZC10ZXN0LWhhcm5lc3Mtc2lnbmluZy1rZXktMzItYnl0ZXMtbG9uZw==";
+    private static final int BULK_ROWS = 100;
+    private static final int HEAVY_CONCURRENCY = 2;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private URI baseUri;
+    private String authorization;
+    private List<Integer> employeeIds;
+    private List<Integer> deletableEmployeeIds;
+    private List<Long> deletableAccountIds;
+    private int seededAccounts;
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int employees = LoadTestProperties.integer("load.seed.employees", 10_000);
+        int accounts = LoadTestProperties.integer("load.seed.accounts", 1_000);
+        int concurrency = LoadTestProperties.integer("load.harness.concurrency", 32);
+        int bcryptStrength = LoadTestProperties.integer("load.bcrypt-strength", 10);
+        Duration duration = LoadTestProperties.duration("load.harness.duration", "15s");
+        boolean virtualThreads = Boolean.getBoolean("load.virtual-threads");
+        String logLevel = System.getProperty("load.log-level", "WARN");
+        String profiles = System.getProperty("load.spring-profiles", "dev");
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        try (var postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext app = start(postgres, bcryptStrength, virtualThreads, logLevel,
+                     profiles)) {
+            var harness = new LoadTestHarness();
+            harness.baseUri = URI.create("http://localhost:" + app.getEnvironment().getProperty("local.server.port"));
+            harness.seed(new JdbcTemplate(app.getBean(DataSource.class)), employees, accounts,
+                    bcryptStrength);
+            harness.authorization = "Bearer " + harness.login("load-account-1");
+
+            List<ClosedLoopLoad.Result> results = harness.runAll(concurrency, duration);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("seededEmployees", employees);
+            report.put("seededAccounts", accounts);
+            report.put("virtualThreads", virtualThreads);
+            report.put("logLevel", logLevel);
+            report.put("profiles", profiles);
+            report.put("durationSecondsPerEndpoint", duration.toSeconds());
+            report.put("endpoints", results);
+            LoadTestProperties.write(report, System.getProperty("load.output"));
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start(EmbeddedPostgres postgres, int bcryptStrength,
+                                                        boolean virtualThreads, String logLevel, String profiles) {
+        return new SpringApplicationBuilder(SecurityServiceApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.profiles.active=" + profiles,
+                "--logging.level.root=" + logLevel,
+                "--security.jwt.secret=" + JWT_SECRET,
+                "--security.jwt.access-token-ttl=2h",
+                "--security.password-hashing.bcrypt-strength=" + bcryptStrength);
+    }
+
+    private void seed(JdbcTemplate jdbc, int employees, int accounts, int bcryptStrength) {
+        long start = System.nanoTime();
+        List<Object[]> employeeRows = new ArrayList<>();
+        for (int i = 1; i <= employees * 2; i++) {
+            String prefix = i <= employees ? "load-employee-" + i : "load-deletable-employee-" + i;
+            employeeRows.add(new Object[]{"First" + i, "Last" + i, prefix, prefix + "@example.com"});
+        }
+        jdbc.batchUpdate("INSERT INTO employees (employee_id, firstname, lastname, username, email) "
+                + "VALUES (nextval('employee_id_seq'), ?, ?, ?, ?)", employeeRows);
+        employeeIds = jdbc.queryForList("SELECT employee_id FROM employees WHERE username LIKE 'load-employee-%' "
+                + "ORDER BY employee_id", Integer.class);
+        deletableEmployeeIds = jdbc.queryForList("SELECT employee_id FROM employees "
+                + "WHERE username LIKE 'load-deletable-employee-%' ORDER BY employee_id", Integer.class);
+
+        String passwordHash = "{bcrypt}" + new BCryptPasswordEncoder(bcryptStrength).encode(PASSWORD);
+        List<Object[]> accountRows = new ArrayList<>();
+        for (int i = 1; i <= accounts * 2; i++) {
+            String username = i <= accounts ? "load-account-" + i : "load-deletable-account-" + i;
+            accountRows.add(new Object[]{username, passwordHash});
+        }
+        jdbc.batchUpdate("INSERT INTO accounts (account_id, username, password) "
+                + "VALUES (nextval('account_id_seq'), ?, ?)", accountRows);
+        jdbc.update("INSERT INTO AccountRole (accountId, roleId) SELECT a.account_id, r.role_id FROM accounts a, "
+                + "roles r WHERE a.username LIKE 'load-%' AND r.code = 'USER'");
+        deletableAccountIds = jdbc.queryForList("SELECT account_id FROM accounts "
+                + "WHERE username LIKE 'load-deletable-account-%' ORDER BY account_id", Long.class);
+        seededAccounts = accounts;
+        System.out.printf("Seeded %d employees and %d accounts in %d ms%n", employees * 2, accounts * 2,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private String login(String username) throws Exception {
+        HttpResponse<String> response = client.send(post("/api/accounts/login",
+                        objectMapper.writeValueAsString(Map.of("username", username, "password", PASSWORD)), false),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).path("accessToken").asText();
+    }
+
+    private List<ClosedLoopLoad.Result> runAll(int concurrency, Duration duration) throws InterruptedException {
+        var runId = Long.toString(System.currentTimeMillis(), 36);
+        Map<String, LongFunction<HttpRequest>> endpoints = new LinkedHashMap<>();
+        endpoints.put("GET /api/employees", n -> get("/api/employees?size=20"));
+        endpoints.put("GET /api/employees/{id}", n -> get("/api/employees/" + pick(employeeIds, n)));
+        endpoints.put("GET /api/employees/email/{email}",
+                n -> get("/api/employees/email/load-employee-" + (n % employeeIds.size() + 1) + "@example.com"));
+        endpoints.put("POST /api/employees", n -> post("/api/employees", json(employee(runId, n)), true));
+        endpoints.put("DELETE /api/employees/{id}",
+                n -> delete("/api/employees/" + pick(deletableEmployeeIds, n - 1)));
+        endpoints.put("GET /api/accounts", n -> get("/api/accounts?size=20"));
+        endpoints.put("GET /api/accounts/{username}",
+                n -> get("/api/accounts/load-account-" + (n % seededAccounts + 1)));
+        endpoints.put("POST /api/accounts/create-account", n -> post("/api/accounts/create-account",
+                json(Map.of("username", "load-created-" + runId + "-" + n, "password", PASSWORD)), true));
+        endpoints.put("DELETE /api/accounts/delete/{id}",
+                n -> delete("/api/accounts/delete/" + pick(deletableAccountIds, n - 1)));
+        endpoints.put("POST /api/accounts/login", n -> post("/api/accounts/login",
+                json(Map.of("username", "load-account-" + (n % seededAccounts + 1), "password", PASSWORD)), false));
+
+        Map<String, LongFunction<HttpRequest>> heavyEndpoints = new LinkedHashMap<>();
+        heavyEndpoints.put("POST /api/employees/bulk", n -> post("/api/employees/bulk", json(bulk(runId, n)), true));
+        heavyEndpoints.put("GET /api/employees/export", n -> get("/api/employees/export"));
+
+        List<ClosedLoopLoad.Result> results = new ArrayList<>();
+        for (var endpoint : endpoints.entrySet()) {
+            results.add(run(endpoint.getKey(), endpoint.getValue(), concurrency, duration));
+        }
+        for (var endpoint : heavyEndpoints.entrySet()) {
+            results.add(run(endpoint.getKey(), endpoint.getValue(), Math.min(concurrency, HEAVY_CONCURRENCY),
+                    duration));
+        }
+        return results;
+    }
+
+    private ClosedLoopLoad.Result run(String name, LongFunction<HttpRequest> requests, int concurrency,
+                                      Duration duration) throws InterruptedException {
+        ClosedLoopLoad.Result result = ClosedLoopLoad.run(name, client, requests, concurrency, duration);
+        ClosedLoopLoad.print("e2e", result);
+        return result;
+    }
+
+    private static <T> T pick(List<T> values, long sequence) {
+        // Past the end of a deletable range the same ids are requested again and show up as errors
+        return values.get((int) (sequence % values.size()));
+    }
+
+    private static Map<String, String> employee(String runId, long sequence) {
+        String username = "load-created-" + runId + "-" + sequence;
+        return Map.of("firstName", "Load", "lastName", "Test", "username", username,
+                "email", username + "@example.com");
+    }
+
+    private static List<Map<String, String>> bulk(String runId, long sequence) {
+        List<Map<String, String>> employees = new ArrayList<>(BULK_ROWS);
+        for (int row = 0; row < BULK_ROWS; row++) {
+            employees.add(employee(runId + "-bulk-" + sequence, row));
+        }
+        return employees;
+    }
+
+    private HttpRequest get(String path) {
+        return builder(path, true).GET().build();
+    }
+
+    private HttpRequest delete(String path) {
+        return builder(path, true).DELETE().build();
+    }
+
+    private HttpRequest post(String path, String body, boolean authenticated) {
+        return builder(path, authenticated)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder builder(String path, boolean authenticated) {
+        var builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(Duration.ofSeconds(60));
+        if (authenticated && authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        return builder;
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package code.with.vanilson.securityservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * System property parsing and result output shared by the load-test entry points.
+ */
+final class LoadTestProperties {
+
+    private LoadTestProperties() {
+    }
+
+    /**
+     * @return the property as a duration written like {@code 30s} or {@code 2m}
+     */
+    static Duration duration(String property, String defaultValue) {
+        return Duration.parse("PT" + System.getProperty(property, defaultValue).trim().toUpperCase());
+    }
+
+    static int integer(String property, int defaultValue) {
+        String value = System.getProperty(property);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Writes the result as indented JSON, unless no output file is configured.
+     */
+    static void write(Object result, String output) throws IOException {
+        if (output == null || output.isBlank()) {
+            return;
+        }
+        var file = new File(output);
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, result);
+        System.out.println("Results written to " + output);
+    }
+}
@@ -0,0 +1,221 @@
+package code.with.vanilson.securityservice.loadtest;
+
+import code.with.vanilson.securityservice.security.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.User;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * Runs the same employee read workload against the servlet service and the reactive variant under
+ * {@code reactive/}, one after the other, each as its own JVM with the same CPU and heap limits, against the
+ * same embedded PostgreSQL.
+ * <p>
+ * For each concurrency level it reports requests per second, p50/p95/p99 latency and errors per variant, and
+ * for each variant the peak number of live JVM threads, which shows whether the fan-in was absorbed by the
+ * event loop or by a growing thread pool. Both jars must be built first; see the {@code load-test} Maven
+ * profile. The embedded database refuses to run as root.
+ */
+public final class SideBySideLoadTest {
+
+    private static final String JWT_SECRET = "c2lkZS1ieS1zaWRlLWxvYWQtdGVzdC1zaWduaW5nLWtleS0zMi1ieXRlcw==";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String authorization;
+    private final List<Integer> employeeIds;
+
+    private SideBySideLoadTest(String authorization, List<Integer> employeeIds) {
+        this.authorization = authorization;
+        this.employeeIds = employeeIds;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int employees = LoadTestProperties.integer("load.seed.employees", 10_000);
+        int[] concurrencyLevels = Arrays.stream(System.getProperty("load.side-by-side.concurrency", "64,256,1024")
+                        .split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim()))
+                .toArray();
+        Duration duration = LoadTestProperties.duration("load.side-by-side.duration", "15s");
+        List<String> podOptions = List.of(System.getProperty("load.pod.jvm-options",
+                "-XX:ActiveProcessorCount=2 -Xmx512m").trim().split("\\s+"));
+        String servletJar = requiredFile("load.servlet.jar");
+        String reactiveJar = requiredFile("load.reactive.jar");
+
+        try (var postgres = EmbeddedPostgres.builder().start()) {
+            Flyway.configure()
+                    .dataSource(postgres.getPostgresDatabase())
+                    .locations("classpath:db/migration/")
+                    .load()
+                    .migrate();
+            List<Integer> employeeIds = seed(new JdbcTemplate(postgres.getPostgresDatabase()), employees);
+
+            String accessToken = new JwtService(JWT_SECRET, Duration.ofHours(2), Duration.ofHours(2))
+                    .issueAccessToken(User.withUsername("side-by-side").password("unused").roles("USER").build());
+            var test = new SideBySideLoadTest("Bearer " + accessToken, employeeIds);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("seededEmployees", employees);
+            report.put("podJvmOptions", podOptions);
+            report.put("durationSecondsPerLevel", duration.toSeconds());
+            report.put("servlet", test.run("servlet", command(servletJar, podOptions,
+                    "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                    "--spring.datasource.username=postgres",
+                    "--spring.datasource.password=postgres",
+                    "--spring.jpa.show-sql=false",
+                    "--spring.jpa.properties.hibernate.format_sql=false",
+                    "--security.password-hashing.bcrypt-strength=4"), concurrencyLevels, duration));
+            report.put("reactive", test.run("reactive", command(reactiveJar, podOptions,
+                    "--spring.r2dbc.url=r2dbc:postgresql://localhost:" + postgres.getPort() + "/postgres",
+                    "--spring.r2dbc.username=postgres",
+                    "--spring.r2dbc.password=postgres"), concurrencyLevels, duration));
+            LoadTestProperties.write(report, System.getProperty("load.output"));
+        }
+        System.exit(0);
+    }
+
+    private Map<String, Object> run(String variant, List<String> command, int[] concurrencyLevels,
+                                    Duration duration) throws Exception {
+        int port;
+        try (var socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+        File log = Path.of("target", "side-by-side-" + variant + ".log").toFile();
+        log.getAbsoluteFile().getParentFile().mkdirs();
+        Process process = new ProcessBuilder(fullCommand)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            URI baseUri = URI.create("http://localhost:" + port);
+            awaitStartup(variant, process, baseUri, log);
+
+            List<ClosedLoopLoad.Result> levels = new ArrayList<>();
+            for (int concurrency : concurrencyLevels) {
+                ClosedLoopLoad.Result level = ClosedLoopLoad.run("employee reads", client, reads(baseUri),
+                        concurrency, duration);
+                ClosedLoopLoad.print(variant, level);
+                levels.add(level);
+            }
+            double peakThreads = metric(baseUri, "jvm.threads.peak");
+            System.out.printf("%-10s peak live threads=%.0f%n", variant, peakThreads);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("peakThreads", peakThreads);
+            result.put("levels", levels);
+            return result;
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * Cycles through a page, a lookup by ID and a lookup by email.
+     */
+    private LongFunction<HttpRequest> reads(URI baseUri) {
+        return sequence -> {
+            int employee = (int) (sequence % employeeIds.size());
+            String path = switch ((int) (sequence % 3)) {
+                case 0 -> "/api/employees?size=20";
+                case 1 -> "/api/employees/email/side-by-side-" + (employee + 1) + "@example.com";
+                default -> "/api/employees/" + employeeIds.get(employee);
+            };
+            return get(baseUri.resolve(path));
+        };
+    }
+
+    private void awaitStartup(String variant, Process process, URI baseUri, File log) throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(variant + " exited during startup, see " + log);
+            }
+            try {
+                if (client.send(get(baseUri.resolve("/management/health")), HttpResponse.BodyHandlers.discarding())
+                        .statusCode() == 200) {
+                    System.out.println(variant + " started on " + baseUri);
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(variant + " did not start within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    private double metric(URI baseUri, String name) throws Exception {
+        HttpResponse<String> response = client.send(get(baseUri.resolve("/management/metrics/" + name)),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body()).path("measurements").path(0).path("value").asDouble(Double.NaN);
+    }
+
+    private HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+    }
+
+    private static List<Integer> seed(JdbcTemplate jdbc, int employees) {
+        List<Object[]> rows = new ArrayList<>(employees);
+        for (int i = 1; i <= employees; i++) {
+            String username = "side-by-side-" + i;
+            rows.add(new Object[]{"First" + i, "Last" + i, username, username + "@example.com"});
+        }
+        jdbc.batchUpdate("INSERT INTO employees (employee_id, firstname, lastname, username, email) "
+                + "VALUES (nextval('employee_id_seq'), ?, ?, ?, ?)", rows);
+        System.out.printf("Seeded %d employees%n", employees);
+        return jdbc.queryForList("SELECT employee_id FROM employees WHERE username LIKE 'side-by-side-%' "
+                + "ORDER BY employee_id", Integer.class);
+    }
+
+    private static List<String> command(String jar, List<String> jvmOptions, String... applicationArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar);
+        command.add("--logging.level.root=WARN");
+        command.add("--security.jwt.secret=" + JWT_SECRET);
+        command.addAll(List.of(applicationArgs));
+        return command;
+    }
+
+    private static String requiredFile(String property) {
+        String path = System.getProperty(property, "");
+        if (path.isBlank() || !new File(path).isFile()) {
+            throw new IllegalStateException(property + " must point to a built jar, got '" + path + "'");
+        }
+        return path;
+    }
+}
@@ -0,0 +1,288 @@
+package code.with.vanilson.securityservice.loadtest;
+
+import code.with.vanilson.securityservice.security.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+/**
+ * Measures time to first request of the packaged service: from launching the JVM to the first answered
+ * {@code GET /api/employees}, against an embedded PostgreSQL that is already migrated.
+ * <p>
+ * Four variants run from the same jar, which must be built with {@code -Pfast-start} so it carries the AOT
+ * initializers: the default startup under {@code prod}, the {@code fast-start} profile (lazy initialization,
+ * schema validation), the profile with AOT, and the profile with AOT and a CDS archive, launched from the
+ * extracted jar as the {@code Dockerfile} does. The archive is produced by the same training run as in the
+ * {@code Dockerfile}. Variants take turns within each round, so drift on the machine affects all of them alike.
+ * Reports the median, minimum and maximum per variant, plus Spring's own {@code application.ready.time}. The
+ * embedded database refuses to run as root.
+ */
+public final class StartupBenchmark {
+
+    private static final String JWT_SECRET = "c3RhcnR1cC1iZW5jaG1hcmstc2lnbmluZy1rZXktMzItYnl0ZXMtbG9uZw==";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String AOT_INITIALIZER = "BOOT-INF/classes/code/with/vanilson/securityservice/"
+            + "SecurityServiceApplication__ApplicationContextInitializer.class";
+
+    /**
+     * The Dockerfile training run: starts without a database and exits once the context is refreshed.
+     */
+    private static final List<String> CDS_TRAINING_ARGS = List.of(
+            "--spring.profiles.active=prod,fast-start",
+            "--startup.training-run=true",
+            "--spring.jpa.hibernate.ddl-auto=none",
+            "--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false");
+
+    private record Variant(String name, String profiles, boolean aot, boolean cds) {
+    }
+
+    private static final List<Variant> VARIANTS = List.of(
+            new Variant("default", "prod", false, false),
+            new Variant("fast-start", "prod,fast-start", false, false),
+            new Variant("fast-start-aot", "prod,fast-start", true, false),
+            new Variant("fast-start-aot-cds", "prod,fast-start", true, true));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private final String authorization;
+    private final List<String> podOptions;
+    private final String jdbcUrl;
+
+    private StartupBenchmark(String authorization, List<String> podOptions, String jdbcUrl) {
+        this.authorization = authorization;
+        this.podOptions = podOptions;
+        this.jdbcUrl = jdbcUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = LoadTestProperties.integer("load.startup.runs", 10);
+        int warmupRuns = LoadTestProperties.integer("load.startup.warmup-runs", 1);
+        List<String> podOptions = List.of(System.getProperty("load.pod.jvm-options",
+                "-XX:ActiveProcessorCount=2 -Xmx512m").trim().split("\\s+"));
+        Path jar = aotProcessedJar(System.getProperty("load.servlet.jar", ""));
+
+        try (var postgres = EmbeddedPostgres.builder().start()) {
+            Flyway.configure()
+                    .dataSource(postgres.getPostgresDatabase())
+                    .locations("classpath:db/migration/")
+                    .load()
+                    .migrate();
+            String accessToken = new JwtService(JWT_SECRET, Duration.ofHours(2), Duration.ofHours(2))
+                    .issueAccessToken(User.withUsername("startup").password("unused").roles("USER").build());
+            var benchmark = new StartupBenchmark("Bearer " + accessToken, podOptions,
+                    postgres.getJdbcUrl("postgres", "postgres"));
+            Path extractedJar = benchmark.trainCdsArchive(jar);
+
+            Map<Variant, List<Long>> timesToFirstRequest = new LinkedHashMap<>();
+            Map<Variant, List<Long>> readyTimes = new LinkedHashMap<>();
+            for (int round = -warmupRuns; round < runs; round++) {
+                for (Variant variant : VARIANTS) {
+                    long[] sample = benchmark.start(variant, variant.cds() ? extractedJar : jar);
+                    System.out.printf("%-20s %s time to first request=%d ms, ready=%d ms%n", variant.name(),
+                            round < 0 ? "warm-up" : "run " + (round + 1), sample[0], sample[1]);
+                    if (round >= 0) {
+                        timesToFirstRequest.computeIfAbsent(variant, v -> new ArrayList<>()).add(sample[0]);
+                        readyTimes.computeIfAbsent(variant, v -> new ArrayList<>()).add(sample[1]);
+                    }
+                }
+            }
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("runs", runs);
+            report.put("warmupRuns", warmupRuns);
+            report.put("podJvmOptions", podOptions);
+            for (Variant variant : VARIANTS) {
+                List<Long> times = timesToFirstRequest.get(variant);
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("profiles", variant.profiles());
+                result.put("aot", variant.aot());
+                result.put("cds", variant.cds());
+                result.put("timeToFirstRequestMedianMs", median(times));
+                result.put("timeToFirstRequestMinMs", times.stream().mapToLong(Long::longValue).min().orElseThrow());
+                result.put("timeToFirstRequestMaxMs", times.stream().mapToLong(Long::longValue).max().orElseThrow());
+                result.put("readyTimeMedianMs", median(readyTimes.get(variant)));
+                result.put("samplesMs", times);
+                report.put(variant.name(), result);
+                System.out.printf("%-20s median time to first request=%d ms%n", variant.name(), median(times));
+            }
+            LoadTestProperties.write(report, System.getProperty("load.output"));
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Extracts the jar and records a CDS archive next to it, as the Dockerfile does.
+     *
+     * @return the extracted application jar, to be launched with the archive
+     */
+    private Path trainCdsArchive(Path jar) throws Exception {
+        Path directory = Path.of("target", "startup-benchmark").toAbsolutePath();
+        FileSystemUtils.deleteRecursively(directory);
+        Files.createDirectories(directory.getParent());
+        run("extract", List.of(java(), "-Djarmode=tools", "-jar", jar.toString(),
+                "extract", "--destination", directory.toString()));
+
+        Path extractedJar = directory.resolve(jar.getFileName());
+        List<String> training = new ArrayList<>();
+        training.add(java());
+        training.addAll(podOptions);
+        training.add("-XX:ArchiveClassesAtExit=" + directory.resolve("application.jsa"));
+        training.add("-Dspring.context.exit=onRefresh");
+        training.add("-Dspring.aot.enabled=true");
+        training.add("-jar");
+        training.add(extractedJar.toString());
+        training.addAll(CDS_TRAINING_ARGS);
+        training.add("--spring.datasource.username=unused");
+        training.add("--spring.datasource.password=unused");
+        training.add("--security.jwt.secret=" + JWT_SECRET);
+        run("cds-training", training);
+        if (!Files.isRegularFile(directory.resolve("application.jsa"))) {
+            throw new IllegalStateException("The training run wrote no CDS archive, see "
+                    + Path.of("target", "startup-cds-training.log"));
+        }
+        return extractedJar;
+    }
+
+    /**
+     * Launches one variant and polls until the first request is answered.
+     *
+     * @return the time to first request and Spring's ready time, in milliseconds
+     */
+    private long[] start(Variant variant, Path jar) throws Exception {
+        int port;
+        try (var socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.addAll(podOptions);
+        if (variant.aot()) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        if (variant.cds()) {
+            command.add("-XX:SharedArchiveFile=" + jar.resolveSibling("application.jsa"));
+            command.add("-Xshare:on"); // fail rather than silently measure without the archive
+        }
+        command.addAll(List.of("-jar", jar.toString(),
+                "--server.port=" + port,
+                "--spring.profiles.active=" + variant.profiles(),
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--security.jwt.secret=" + JWT_SECRET,
+                "--logging.level.root=WARN"));
+        File log = Path.of("target", "startup-" + variant.name() + ".log").toFile();
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            URI baseUri = URI.create("http://localhost:" + port);
+            long timeToFirstRequest = awaitFirstRequest(variant, process, baseUri, launched, log);
+            long readyTime = Math.round(metric(baseUri, "application.ready.time") * 1000);
+            return new long[]{timeToFirstRequest, readyTime};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private long awaitFirstRequest(Variant variant, Process process, URI baseUri, long launched, File log)
+            throws Exception {
+        HttpRequest firstRequest = get(baseUri.resolve("/api/employees?size=20"));
+        long deadline = launched + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(variant.name() + " exited during startup, see " + log);
+            }
+            try {
+                int status = client.send(firstRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 200) {
+                    return (System.nanoTime() - launched) / 1_000_000;
+                }
+                throw new IllegalStateException(variant.name() + " answered the first request with " + status
+                        + ", see " + log);
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException(variant.name() + " did not answer within " + STARTUP_TIMEOUT + ", see "
+                + log);
+    }
+
+    private double metric(URI baseUri, String name) throws Exception {
+        HttpResponse<String> response = client.send(get(baseUri.resolve("/management/metrics/" + name)),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body()).path("measurements").path(0).path("value").asDouble(Double.NaN);
+    }
+
+    private HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+    }
+
+    private static void run(String step, List<String> command) throws Exception {
+        File log = Path.of("target", "startup-" + step + ".log").toFile();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        if (!process.waitFor(STARTUP_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException(step + " did not finish within " + STARTUP_TIMEOUT + ", see " + log);
+        }
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException(step + " failed with exit code " + process.exitValue() + ", see " + log);
+        }
+    }
+
+    private static Path aotProcessedJar(String path) throws IOException {
+        if (path.isBlank() || !new File(path).isFile()) {
+            throw new IllegalStateException("load.servlet.jar must point to a built jar, got '" + path + "'");
+        }
+        try (var jar = new JarFile(path)) {
+            if (jar.getEntry(AOT_INITIALIZER) == null) {
+                throw new IllegalStateException(path + " has no AOT initializers; package it with -Pfast-start");
+            }
+        }
+        return Path.of(path).toAbsolutePath();
+    }
+
+    private static long median(List<Long> samples) {
+        List<Long> sorted = samples.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+}
@@ -0,0 +1,36 @@
+package code.with.vanilson.securityservice.logging;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+class LogSummariesTest {
+
+    @Test
+    @DisplayName("Short collections are rendered whole")
+    void testIds_Short() {
+        Assertions.assertEquals("[1, 2, 3]", LogSummaries.ids(List.of(1, 2, 3), Function.identity()));
+        Assertions.assertEquals("[]", LogSummaries.ids(List.of(), Function.identity()));
+    }
+
+    @Test
+    @DisplayName("Long collections are cut after the first IDs")
+    void testIds_Capped() {
+        List<Integer> ids = IntStream.rangeClosed(1, 250).boxed().toList();
+
+        Assertions.assertEquals("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10, ... +240 more]",
+                LogSummaries.ids(ids, Function.identity()));
+    }
+
+    @Test
+    @DisplayName("Client values are capped and kept on one line")
+    void testCapped() {
+        Assertions.assertEquals("john_forged", LogSummaries.capped("john\nforged"));
+        Assertions.assertEquals("a".repeat(64) + "...(100 chars)", LogSummaries.capped("a".repeat(100)));
+        Assertions.assertNull(LogSummaries.capped(null));
+    }
+}
@@ -5,6 +5,7 @@ import code.with.vanilson.securityservice.domain.Role;
 import code.with.vanilson.securityservice.dto.AccountDTO;
 import code.with.vanilson.securityservice.dto.RoleDTO;
 import code.with.vanilson.securityservice.exception.AccountCanNotBeNullException;
+import code.with.vanilson.securityservice.repository.projection.AccountRoleRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class AccountMapperTest {
 
@@ -66,7 +68,7 @@ public class AccountMapperTest {
         // Assertions
         assertEquals(account.getId(), accountDTO.getId());
         assertEquals(account.getUsername(), accountDTO.getUserName());
-        assertEquals(account.getPassword(), accountDTO.getPassword());
+        assertNull(accountDTO.getPassword());
         assertEquals(account.isEnabled(), accountDTO.isEnabled());
         assertEquals(account.isLocked(), accountDTO.isLocked());
         assertEquals(account.isExpired(), accountDTO.isExpired());
@@ -91,7 +93,7 @@ public class AccountMapperTest {
         Account account = new Account();
         account.setId(1L);
         account.setUsername("testuser");
-        account.setPassword(passwordEncoder.encode("testpassword"));
+        account.setPassword("$2a$10$encodedtestpassword");
         account.setEnabled(true);
         account.setLocked(false);
         account.setExpired(false);
@@ -102,11 +104,14 @@ public class AccountMapperTest {
         // Call the mapper method
         List<AccountDTO> accountDTOList = accountMapper.toAccountDTOList(accountList);
 
+        // The read path must never hash passwords
+        verifyNoInteractions(passwordEncoder);
+
         // Assertions
         assertEquals(1, accountDTOList.size());
         assertEquals(account.getId(), accountDTOList.get(0).getId());
         assertEquals(account.getUsername(), accountDTOList.get(0).getUserName());
-        assertEquals(account.getPassword(), accountDTOList.get(0).getPassword());
+        assertNull(accountDTOList.get(0).getPassword());
         assertEquals(account.isEnabled(), accountDTOList.get(0).isEnabled());
         assertEquals(account.isLocked(), accountDTOList.get(0).isLocked());
         assertEquals(account.isExpired(), accountDTOList.get(0).isExpired());
@@ -114,6 +119,41 @@ public class AccountMapperTest {
         assertEquals(account.getRoles(), accountDTOList.get(0).getRoles());
     }
 
+    @Test
+    @DisplayName("Fold account projection rows into one AccountDTO")
+    void testFromAccountRows() {
+        // Create test data: one row per role
+        List<AccountRoleRow> rows = List.of(
+                new AccountRoleRow(1L, "testuser", true, false, false, false, 1L, "role1", "ROLE1"),
+                new AccountRoleRow(1L, "testuser", true, false, false, false, 2L, "role2", "ROLE2"));
+
+        // Call the mapper method
+        AccountDTO accountDTO = accountMapper.fromAccountRows(rows);
+
+        // Assertions
+        assertEquals(1L, accountDTO.getId());
+        assertEquals("testuser", accountDTO.getUserName());
+        assertNull(accountDTO.getPassword());
+        assertTrue(accountDTO.isEnabled());
+        assertEquals(Set.of(new RoleDTO(1L, "role1", "ROLE1"), new RoleDTO(2L, "role2", "ROLE2")),
+                accountDTO.getRoles());
+    }
+
+    @Test
+    @DisplayName("Fold the row of an account without roles")
+    void testFromAccountRowsWithoutRoles() {
+        // An account without roles comes back as one row with null role columns
+        List<AccountRoleRow> rows = List.of(
+                new AccountRoleRow(1L, "testuser", true, false, false, false, null, null, null));
+
+        // Call the mapper method
+        AccountDTO accountDTO = accountMapper.fromAccountRows(rows);
+
+        // Assertions
+        assertEquals("testuser", accountDTO.getUserName());
+        assertTrue(accountDTO.getRoles().isEmpty());
+    }
+
     // Add tests for other mapper methods (toAccountEntity, toRoleDTO, toRoleEntity)
 
     @Test
@@ -0,0 +1,23 @@
+package code.with.vanilson.securityservice.pagination;
+
+import code.with.vanilson.securityservice.common.pagination.KeysetPageRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+class KeysetPageableTest {
+
+    @Test
+    @DisplayName("Pageable fetches one extra row from the first page, sorted by key in the request's direction")
+    void testPageable() {
+        Pageable ascending = KeysetPageable.of(KeysetPageRequest.of(null, 10, null), "id");
+        Pageable descending = KeysetPageable.of(KeysetPageRequest.of(null, 10, "desc"), "id");
+
+        Assertions.assertEquals(0, ascending.getPageNumber());
+        Assertions.assertEquals(11, ascending.getPageSize());
+        Assertions.assertEquals(Sort.by(Sort.Direction.ASC, "id"), ascending.getSort());
+        Assertions.assertEquals(Sort.by(Sort.Direction.DESC, "id"), descending.getSort());
+    }
+}
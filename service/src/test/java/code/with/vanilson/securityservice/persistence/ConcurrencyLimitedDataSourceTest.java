@@ -0,0 +1,99 @@
+package code.with.vanilson.securityservice.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Borrowing beyond the limit times out")
+    void testGetConnection_LimitReached() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        Assertions.assertEquals(2, dataSource.getActiveConnections());
+        Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    @DisplayName("Closing a connection returns its permit once")
+    void testClose_ReleasesPermit() throws SQLException {
+        Connection first = dataSource.getConnection();
+
+        first.close();
+        first.close();
+
+        Assertions.assertEquals(0, dataSource.getActiveConnections());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Aborting a connection returns its permit once, even if the target abort fails")
+    void testAbort_ReleasesPermit() throws SQLException {
+        doThrow(new SQLException("already closed")).when(connection).abort(any());
+        Connection first = dataSource.getConnection();
+
+        Assertions.assertThrows(SQLException.class, () -> first.abort(Runnable::run));
+        first.close();
+
+        Assertions.assertEquals(0, dataSource.getActiveConnections());
+        dataSource.getConnection();
+        dataSource.getConnection();
+        Assertions.assertEquals(2, dataSource.getActiveConnections());
+    }
+
+    @Test
+    @DisplayName("Failed borrow does not leak a permit")
+    void testGetConnection_TargetFails() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        Assertions.assertThrows(SQLException.class, dataSource::getConnection);
+
+        Assertions.assertEquals(0, dataSource.getActiveConnections());
+    }
+
+    @Test
+    @DisplayName("Unwrapping reaches the target connection")
+    void testUnwrap_DelegatesToTarget() throws SQLException {
+        when(connection.isWrapperFor(DataSource.class)).thenReturn(false);
+        when(connection.unwrap(DataSource.class)).thenThrow(new SQLException("not a wrapper"));
+        Connection borrowed = dataSource.getConnection();
+
+        Assertions.assertSame(borrowed, borrowed.unwrap(Connection.class));
+        Assertions.assertFalse(borrowed.isWrapperFor(DataSource.class));
+        Assertions.assertThrows(SQLException.class, () -> borrowed.unwrap(DataSource.class));
+        verify(connection).isWrapperFor(DataSource.class);
+        verify(connection).unwrap(DataSource.class);
+    }
+}
@@ -0,0 +1,41 @@
+package code.with.vanilson.securityservice.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+class DataSourceConcurrencyConfigTest {
+
+    // The application resolves the acquire timeout placeholder and binds it with Boot's Duration converters
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class))
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(DataSourceConcurrencyConfig.class)
+            .withBean(HikariDataSource.class, HikariDataSource::new);
+
+    @Test
+    @DisplayName("On platform threads the pool is not fenced")
+    void testPlatformThreads_NotFenced() {
+        contextRunner.run(context -> Assertions.assertInstanceOf(HikariDataSource.class,
+                context.getBean(DataSource.class)));
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=false")
+                .run(context -> Assertions.assertInstanceOf(HikariDataSource.class,
+                        context.getBean(DataSource.class)));
+    }
+
+    @Test
+    @DisplayName("On virtual threads the pool is fenced")
+    void testVirtualThreads_Fenced() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> Assertions.assertInstanceOf(ConcurrencyLimitedDataSource.class,
+                        context.getBean(DataSource.class)));
+    }
+}
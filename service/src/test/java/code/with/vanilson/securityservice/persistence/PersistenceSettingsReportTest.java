@@ -0,0 +1,103 @@
+package code.with.vanilson.securityservice.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+class PersistenceSettingsReportTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactoryImplementor sessionFactory;
+
+    @Mock
+    private SessionFactoryOptions options;
+
+    @Mock
+    private JdbcServices jdbcServices;
+
+    @Mock
+    private SqlStatementLogger sqlStatementLogger;
+
+    @Mock
+    private DataSource otherDataSource;
+
+    private HikariDataSource pool;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getSessionFactoryOptions()).thenReturn(options);
+        when(sessionFactory.getJdbcServices()).thenReturn(jdbcServices);
+        when(jdbcServices.getSqlStatementLogger()).thenReturn(sqlStatementLogger);
+
+        // Never started, so no connection is opened
+        pool = new HikariDataSource();
+        pool.setPoolName("primary");
+        pool.setMaximumPoolSize(20);
+        pool.setMinimumIdle(20);
+        pool.addDataSourceProperty("prepareThreshold", "1");
+        pool.addDataSourceProperty("reWriteBatchedInserts", "true");
+        pool.addDataSourceProperty("password", "secret");
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("Reports the pool behind the connection fence and its driver tuning")
+    void testLines_FencedHikariPool() {
+        var fenced = new ConcurrencyLimitedDataSource(pool, 20, Duration.ofSeconds(5));
+
+        List<String> lines = new PersistenceSettingsReport(fenced, entityManagerFactory).lines();
+
+        Assertions.assertTrue(lines.get(0).startsWith("Connection pool primary: maximumPoolSize=20, minimumIdle=20"));
+        Assertions.assertEquals("JDBC driver: prepareThreshold=1 preparedStatementCacheQueries=default"
+                + " preparedStatementCacheSizeMiB=default reWriteBatchedInserts=true", lines.get(1));
+        Assertions.assertFalse(String.join("\n", lines).contains("secret"));
+    }
+
+    @Test
+    @DisplayName("Reports the effective Hibernate batching settings")
+    void testLines_HibernateBatching() {
+        // Mock session factory options
+        when(options.getJdbcBatchSize()).thenReturn(50);
+        when(options.isOrderInsertsEnabled()).thenReturn(true);
+        when(options.isOrderUpdatesEnabled()).thenReturn(true);
+
+        List<String> lines = new PersistenceSettingsReport(pool, entityManagerFactory).lines();
+
+        Assertions.assertEquals("Hibernate: jdbc.batch_size=50, batch_versioned_data=false, order_inserts=true,"
+                + " order_updates=true, in_clause_parameter_padding=false, show_sql=false", lines.get(2));
+    }
+
+    @Test
+    @DisplayName("Pool settings are skipped when the pool is not HikariCP")
+    void testLines_NotHikari() {
+        List<String> lines = new PersistenceSettingsReport(otherDataSource, entityManagerFactory).lines();
+
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertEquals("Connection pool: not HikariCP, settings not reported", lines.get(0));
+    }
+}
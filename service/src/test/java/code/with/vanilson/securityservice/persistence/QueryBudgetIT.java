@@ -0,0 +1,206 @@
+package code.with.vanilson.securityservice.persistence;
+
+import code.with.vanilson.securityservice.service.EmployeeExportService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs every endpoint of {@code EmployeeController} and {@code AccountController} against an embedded
+ * PostgreSQL migrated with the real Flyway scripts, and fails when a request runs more SQL statements than its
+ * {@link QueryBudget}. An N+1 shows up here as a budget overrun rather than as a slow production endpoint.
+ */
+@SpringBootTest(properties = {
+        "security.jwt.secret=cXVlcnktYnVkZ2V0LWl0LXNpZ25pbmcta2V5LTMyLWJ5dGVzLWxvbmc=",
+        "security.password-hashing.bcrypt-strength=4",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+class QueryBudgetIT {
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeExportService employeeExportService;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    @DisplayName("GET /api/employees stays within budget")
+    void testGetAllEmployees() throws Exception {
+        assertWithinBudget(get("/api/employees").param("size", "100"));
+    }
+
+    @Test
+    @DisplayName("GET /api/employees/export runs a single cursor query")
+    void testExportEmployees() throws IOException {
+        QueryCounter.start();
+        employeeExportService.exportEmployees(OutputStream.nullOutputStream());
+        Assertions.assertEquals(1, QueryCounter.stop());
+    }
+
+    @Test
+    @DisplayName("GET /api/employees/{id} stays within budget")
+    void testGetEmployeeById() throws Exception {
+        assertWithinBudget(get("/api/employees/{id}", employeeId("johndoe")));
+    }
+
+    @Test
+    @DisplayName("GET /api/employees/email/{email} stays within budget")
+    void testGetEmployeeByEmail() throws Exception {
+        assertWithinBudget(get("/api/employees/email/{email}", "jane.smith@example.com"));
+    }
+
+    @Test
+    @DisplayName("POST /api/employees stays within budget")
+    void testCreateEmployee() throws Exception {
+        assertWithinBudget(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"firstName":"Query","lastName":"Budget","username":"querybudget",
+                         "email":"query.budget@example.com"}"""));
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/bulk (JSON) stays within budget")
+    void testImportEmployees() throws Exception {
+        assertWithinBudget(post("/api/employees/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        [{"firstName":"Bulk","lastName":"One","username":"bulkjson1","email":"bulk.json1@example.com"},
+                         {"firstName":"Bulk","lastName":"Two","username":"bulkjson2","email":"bulk.json2@example.com"}]"""));
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/bulk (CSV) stays within budget")
+    void testImportEmployeesCsv() throws Exception {
+        assertWithinBudget(post("/api/employees/bulk")
+                .contentType("text/csv")
+                .content("""
+                        firstName,lastName,username,email
+                        Bulk,One,bulkcsv1,bulk.csv1@example.com
+                        Bulk,Two,bulkcsv2,bulk.csv2@example.com
+                        """));
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/bulk stays within budget across several chunks")
+    void testImportEmployees_SeveralChunks() throws Exception {
+        // Three import chunks: two full ones and a partial one
+        String rows = IntStream.rangeClosed(1, 1_201)
+                .mapToObj(i -> "Bulk,Chunk,bulkchunk" + i + ",bulk.chunk" + i + "@example.com")
+                .collect(Collectors.joining("\n", "firstName,lastName,username,email\n", "\n"));
+
+        MvcResult result = assertWithinBudget(post("/api/employees/bulk")
+                .contentType("text/csv")
+                .content(rows));
+
+        Assertions.assertTrue(result.getResponse().getContentAsString().contains("\"imported\":1201"));
+        Assertions.assertEquals(1_201, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM employees WHERE username LIKE 'bulkchunk%'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/employees/{id} stays within budget")
+    void testDeleteEmployee() throws Exception {
+        jdbcTemplate.update("INSERT INTO employees (firstname, lastname, username, email) "
+                + "VALUES ('Delete', 'Me', 'deleteme', 'delete.me@example.com')");
+
+        assertWithinBudget(delete("/api/employees/{id}", employeeId("deleteme")));
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts stays within budget")
+    void testGetAllAccounts() throws Exception {
+        assertWithinBudget(get("/api/accounts"));
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts/{username} stays within budget")
+    void testGetAccountByUsername() throws Exception {
+        assertWithinBudget(get("/api/accounts/{username}", "admin"));
+    }
+
+    @Test
+    @DisplayName("POST /api/accounts/create-account stays within budget")
+    void testCreateAccount() throws Exception {
+        assertWithinBudget(post("/api/accounts/create-account")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"username":"querybudget","password":"query-budget-password"}"""));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/accounts/delete/{id} stays within budget")
+    void testDeleteAccount() throws Exception {
+        jdbcTemplate.update("INSERT INTO accounts (username, password) VALUES ('deleteme', 'unused')");
+        Long id = jdbcTemplate.queryForObject(
+                "SELECT account_id FROM accounts WHERE username = 'deleteme'", Long.class);
+
+        assertWithinBudget(delete("/api/accounts/delete/{id}", id));
+    }
+
+    private MvcResult assertWithinBudget(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(status().is2xxSuccessful()).andReturn();
+        var budget = (QueryBudgetInterceptor.Result) result.getRequest()
+                .getAttribute(QueryBudgetInterceptor.RESULT_ATTRIBUTE);
+
+        Assertions.assertNotNull(budget, "No query budget was evaluated for this request");
+        Assertions.assertFalse(budget.exceeded(),
+                () -> "Ran " + budget.queries() + " SQL statements, budget is " + budget.budget());
+        return result;
+    }
+
+    private int employeeId(String username) {
+        return jdbcTemplate.queryForObject(
+                "SELECT employee_id FROM employees WHERE username = ?", Integer.class, username);
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start embedded PostgreSQL", e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package code.with.vanilson.securityservice.persistence;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two embedded PostgreSQL servers on two ports stand in for a primary and its replica. Both are migrated, then
+ * an employee is written to the replica only, so whether a read finds it shows which server served it.
+ */
+@SpringBootTest(properties = {
+        "security.jwt.secret=cmVhZC1yZXBsaWNhLWl0LXNpZ25pbmcta2V5LTMyLWJ5dGVzLWxvbmc=",
+        "security.password-hashing.bcrypt-strength=4",
+        "spring.jpa.show-sql=false",
+        "datasource-routing.enabled=true",
+        "datasource-routing.connection-timeout=1s",
+        "datasource-routing.retry-interval=1m"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReadReplicaRoutingIT {
+
+    private static final String REPLICA_ONLY_EMAIL = "replica.only@example.com";
+
+    private static final EmbeddedPostgres PRIMARY = start();
+    private static final EmbeddedPostgres REPLICA = startReplica();
+    private static boolean replicaStopped;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> PRIMARY.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("datasource-routing.replicas[0].url", () -> REPLICA.getJdbcUrl("postgres", "postgres"));
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        PRIMARY.close();
+        if (!replicaStopped) {
+            REPLICA.close();
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Read-only service calls are served by the replica")
+    void testReadFromReplica() throws Exception {
+        mockMvc.perform(get("/api/employees/email/{email}", REPLICA_ONLY_EMAIL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(REPLICA_ONLY_EMAIL));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Work outside read-only transactions stays on the primary")
+    void testNonTransactionalWorkUsesPrimary() {
+        Integer onPrimary = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM employees WHERE email = ?", Integer.class, REPLICA_ONLY_EMAIL);
+
+        Assertions.assertEquals(0, onPrimary);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Reads fall back to the primary when the replica is down")
+    void testFallbackToPrimary() throws Exception {
+        REPLICA.close();
+        replicaStopped = true;
+
+        // Served by the primary, which does not have the replica-only row
+        mockMvc.perform(get("/api/employees/email/{email}", REPLICA_ONLY_EMAIL))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/employees/email/{email}", "john.doe@example.com"))
+                .andExpect(status().isOk());
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start embedded PostgreSQL", e);
+        }
+    }
+
+    private static EmbeddedPostgres startReplica() {
+        EmbeddedPostgres replica = start();
+        Flyway.configure()
+                .dataSource(replica.getPostgresDatabase())
+                .locations("classpath:db/migration/")
+                .load()
+                .migrate();
+        new JdbcTemplate(replica.getPostgresDatabase()).update(
+                "INSERT INTO employees (firstname, lastname, username, email) VALUES (?, ?, ?, ?)",
+                "Replica", "Only", "replicaonly", REPLICA_ONLY_EMAIL);
+        return replica;
+    }
+}
@@ -0,0 +1,121 @@
+package code.with.vanilson.securityservice.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replica1Connection;
+
+    @Mock
+    private Connection replica2Connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Read-write work goes to the primary")
+    void testGetConnection_ReadWrite() throws SQLException {
+        var dataSource = new ReadWriteRoutingDataSource(primary, List.of(replica1, replica2), Duration.ofSeconds(30));
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+        verify(replica1, never()).getConnection();
+        verify(replica2, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions alternate between replicas")
+    void testGetConnection_ReadOnlyRoundRobin() throws SQLException {
+        var dataSource = new ReadWriteRoutingDataSource(primary, List.of(replica1, replica2), Duration.ofSeconds(30));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Assertions.assertSame(replica1Connection, dataSource.getConnection());
+        Assertions.assertSame(replica2Connection, dataSource.getConnection());
+        Assertions.assertSame(replica1Connection, dataSource.getConnection());
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("A failing replica is skipped until the retry interval has passed")
+    void testGetConnection_ReplicaDown() throws SQLException {
+        var dataSource = new ReadWriteRoutingDataSource(primary, List.of(replica1, replica2), Duration.ofSeconds(30));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica1.getConnection()).thenThrow(new SQLTransientConnectionException("connection refused"));
+
+        Assertions.assertSame(replica2Connection, dataSource.getConnection());
+        Assertions.assertSame(replica2Connection, dataSource.getConnection());
+        Assertions.assertSame(replica2Connection, dataSource.getConnection());
+
+        // Asked once, then skipped
+        verify(replica1, times(1)).getConnection();
+        Assertions.assertEquals(1, dataSource.getHealthyReplicas());
+    }
+
+    @Test
+    @DisplayName("Reads fall back to the primary when no replica is healthy")
+    void testGetConnection_AllReplicasDown() throws SQLException {
+        var dataSource = new ReadWriteRoutingDataSource(primary, List.of(replica1), Duration.ofSeconds(30));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica1.getConnection()).thenThrow(new SQLTransientConnectionException("connection refused"));
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+
+        Assertions.assertEquals(0, dataSource.getHealthyReplicas());
+        Assertions.assertEquals(2, dataSource.getPrimaryFallbacks());
+    }
+
+    @Test
+    @DisplayName("A replica is retried once its retry interval has passed")
+    void testGetConnection_ReplicaRecovers() throws SQLException {
+        var dataSource = new ReadWriteRoutingDataSource(primary, List.of(replica1), Duration.ZERO);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica1.getConnection())
+                .thenThrow(new SQLTransientConnectionException("connection refused"))
+                .thenReturn(replica1Connection);
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+        Assertions.assertSame(replica1Connection, dataSource.getConnection());
+    }
+}
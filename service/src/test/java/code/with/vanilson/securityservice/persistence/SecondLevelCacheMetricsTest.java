@@ -0,0 +1,67 @@
+package code.with.vanilson.securityservice.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.mockito.Mockito.when;
+
+class SecondLevelCacheMetricsTest {
+
+    private static final String ROLE_REGION = "code.with.vanilson.securityservice.domain.Role";
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @Mock
+    private CacheRegionStatistics roleRegion;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{ROLE_REGION});
+        when(statistics.getCacheRegionStatistics(ROLE_REGION)).thenReturn(roleRegion);
+
+        registry = new SimpleMeterRegistry();
+        new SecondLevelCacheMetrics(entityManagerFactory).bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("Region hit ratio is hits over lookups")
+    void testRegionHitRatio() {
+        // Mock statistics: 3 hits, 1 miss
+        when(roleRegion.getHitCount()).thenReturn(3L);
+        when(roleRegion.getMissCount()).thenReturn(1L);
+
+        double ratio = registry.get("hibernate.second.level.cache.hit.ratio").tag("region", ROLE_REGION)
+                .gauge().value();
+
+        Assertions.assertEquals(0.75, ratio);
+    }
+
+    @Test
+    @DisplayName("Query cache hit ratio is NaN before the first lookup")
+    void testQueryCacheHitRatio_NoLookups() {
+        double ratio = registry.get("hibernate.query.cache.hit.ratio").gauge().value();
+
+        Assertions.assertTrue(Double.isNaN(ratio));
+    }
+}
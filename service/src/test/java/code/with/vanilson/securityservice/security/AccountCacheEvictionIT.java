@@ -0,0 +1,124 @@
+package code.with.vanilson.securityservice.security;
+
+import code.with.vanilson.securityservice.dto.AccountDTO;
+import code.with.vanilson.securityservice.dto.RoleDTO;
+import code.with.vanilson.securityservice.repository.AccountRepository;
+import code.with.vanilson.securityservice.repository.RoleRepository;
+import code.with.vanilson.securityservice.service.AccountService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Locks an account while a login races the update, against an embedded PostgreSQL. The racing login reads the
+ * row as last committed; if the caches were evicted before the commit, it would cache that unlocked account for
+ * the full TTL.
+ */
+@SpringBootTest(properties = {
+        "security.jwt.secret=YWNjb3VudC1jYWNoZS1ldmljdGlvbi1pdC1zaWduaW5nLWtleQ==",
+        "security.password-hashing.bcrypt-strength=4",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class AccountCacheEvictionIT {
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+    private static final String PASSWORD = "lock-me-password";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    @DisplayName("A locked account is refused right after the update commits, even if a login raced it")
+    void testLockedAccountRefusedAfterCommit() throws Exception {
+        RoleDTO role = roleRepository.findAll(Sort.by("roleId")).stream()
+                .findFirst()
+                .map(r -> RoleDTO.builder().roleId(r.getRoleId()).name(r.getName()).code(r.getCode()).build())
+                .orElseThrow();
+        AccountDTO created = accountService.createAccount(AccountDTO.builder()
+                .userName("lock.me")
+                .password(PASSWORD)
+                .enabled(true)
+                .roles(Set.of(role))
+                .build());
+        // Caches the user details and the verified credential
+        login("lock.me").andExpect(status().isOk());
+        String storedHash = accountRepository.findByUsername("lock.me").getPassword();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(transaction -> {
+            accountService.updateAccount(created.getId(), AccountDTO.builder()
+                    .userName("lock.me.locked")
+                    .password(storedHash)
+                    .enabled(true)
+                    .locked(true)
+                    .roles(Set.of(role))
+                    .build());
+            // Not committed yet: a concurrent login still succeeds with the committed account
+            CompletableFuture.runAsync(() -> {
+                try {
+                    login("lock.me").andExpect(status().isOk());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).join();
+        });
+
+        login("lock.me").andExpect(status().isUnauthorized());
+        login("lock.me.locked").andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions login(String username) throws Exception {
+        return mockMvc.perform(get("/api/employees").with(httpBasic(username, PASSWORD)));
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start embedded PostgreSQL", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package code.with.vanilson.securityservice.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FilterChainTimingFiltersTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new AuthenticationMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Request reaching the end of the chain is timed as passed")
+    void testPassed() throws Exception {
+        var chain = new MockFilterChain(new HttpServlet() {
+        }, new FilterChainTimingFilters.Exit(metrics));
+
+        new FilterChainTimingFilters.Entry(metrics)
+                .doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        Assertions.assertEquals(1, count("passed"));
+        Assertions.assertEquals(0, count("rejected"));
+    }
+
+    @Test
+    @DisplayName("Request stopped inside the chain is timed as rejected")
+    void testRejected() throws Exception {
+        var chain = new MockFilterChain(new HttpServlet() {
+        }, (request, response, next) -> ((HttpServletResponse) response).sendError(401),
+                new FilterChainTimingFilters.Exit(metrics));
+
+        new FilterChainTimingFilters.Entry(metrics)
+                .doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        Assertions.assertEquals(0, count("passed"));
+        Assertions.assertEquals(1, count("rejected"));
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.get("auth.filter.chain").tag("outcome", outcome).timer().count();
+    }
+}
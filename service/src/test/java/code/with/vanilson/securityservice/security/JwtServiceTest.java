@@ -0,0 +1,82 @@
+package code.with.vanilson.securityservice.security;
+
+import code.with.vanilson.securityservice.common.security.TokenType;
+import code.with.vanilson.securityservice.exception.InvalidTokenException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.List;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "c2VjdXJpdHktc2VydmljZS10ZXN0LXNpZ25pbmcta2V5LTMyLWJ5dGVzLWxvbmc=";
+
+    private JwtService jwtService;
+    private UserDetails user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, Duration.ofMinutes(15), Duration.ofDays(7));
+        user = User.withUsername("testuser")
+                .password("testpassword")
+                .authorities("Admin", "User")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Access token authenticates with the authorities from its claims")
+    void testAuthenticate_AccessToken() {
+        var authentication = jwtService.authenticate(jwtService.issueAccessToken(user));
+
+        Assertions.assertTrue(authentication.isAuthenticated());
+        Assertions.assertEquals("testuser", authentication.getName());
+        Assertions.assertEquals(List.of("Admin", "User"), authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Refresh token cannot be used as an access token")
+    void testAuthenticate_RefreshTokenRejected() {
+        String refreshToken = jwtService.issueRefreshToken(user);
+
+        Assertions.assertThrows(InvalidTokenException.class, () -> jwtService.authenticate(refreshToken));
+        Assertions.assertEquals("testuser",
+                jwtService.parse(refreshToken, TokenType.REFRESH).getSubject());
+    }
+
+    @Test
+    @DisplayName("Tampered token is rejected")
+    void testParse_TamperedToken() {
+        String token = jwtService.issueAccessToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        Assertions.assertThrows(InvalidTokenException.class, () -> jwtService.authenticate(tampered));
+    }
+
+    @Test
+    @DisplayName("Expired token is rejected")
+    void testParse_ExpiredToken() {
+        var expiringService = new JwtService(SECRET, Duration.ofSeconds(-1), Duration.ofDays(7));
+        String token = expiringService.issueAccessToken(user);
+
+        Assertions.assertThrows(InvalidTokenException.class, () -> jwtService.authenticate(token));
+    }
+
+    @Test
+    @DisplayName("Token signed with another key is rejected")
+    void testParse_ForeignKey() {
+        var foreignService = new JwtService("b3RoZXItc2VjdXJpdHktc2VydmljZS1zaWduaW5nLWtleS0zMi1ieXRlcy1sb25n",
+                Duration.ofMinutes(15), Duration.ofDays(7));
+        String token = foreignService.issueAccessToken(user);
+
+        Assertions.assertThrows(InvalidTokenException.class, () -> jwtService.authenticate(token));
+    }
+}
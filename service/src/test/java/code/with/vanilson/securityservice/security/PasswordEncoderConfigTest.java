@@ -0,0 +1,67 @@
+package code.with.vanilson.securityservice.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+class PasswordEncoderConfigTest {
+
+    private static final String PASSWORD = "testpassword";
+
+    @Test
+    @DisplayName("Legacy hash without id still matches and is marked for upgrade")
+    void testLegacyHash() {
+        PasswordEncoder encoder = PasswordEncoderConfig.delegatingEncoder(PasswordEncoderConfig.BCRYPT, 5);
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        Assertions.assertTrue(encoder.matches(PASSWORD, legacyHash));
+        Assertions.assertTrue(encoder.upgradeEncoding(legacyHash));
+    }
+
+    @Test
+    @DisplayName("Hash with current algorithm and strength is not upgraded")
+    void testCurrentHash() {
+        PasswordEncoder encoder = PasswordEncoderConfig.delegatingEncoder(PasswordEncoderConfig.BCRYPT, 5);
+        String hash = encoder.encode(PASSWORD);
+
+        Assertions.assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+        Assertions.assertTrue(encoder.matches(PASSWORD, hash));
+        Assertions.assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    @DisplayName("Switching algorithm upgrades hashes of the previous one")
+    void testAlgorithmSwitch() {
+        String bcryptHash = PasswordEncoderConfig.delegatingEncoder(PasswordEncoderConfig.BCRYPT, 5).encode(PASSWORD);
+        PasswordEncoder encoder = PasswordEncoderConfig.delegatingEncoder(PasswordEncoderConfig.PBKDF2, 5);
+
+        Assertions.assertTrue(encoder.matches(PASSWORD, bcryptHash));
+        Assertions.assertTrue(encoder.upgradeEncoding(bcryptHash));
+    }
+
+    @Test
+    @DisplayName("The configured strength is used unless calibration is enabled")
+    void testPasswordEncoder_Calibrate() {
+        var config = new PasswordEncoderConfig();
+        PasswordEncoder fixed = config.passwordEncoder(PasswordEncoderConfig.BCRYPT, 5, false, Duration.ZERO, 1, 1,
+                new SimpleMeterRegistry());
+        PasswordEncoder calibrated = config.passwordEncoder(PasswordEncoderConfig.BCRYPT, 5, true, Duration.ZERO, 1, 1,
+                new SimpleMeterRegistry());
+
+        Assertions.assertTrue(fixed.encode(PASSWORD).startsWith("{bcrypt}$2a$05$"));
+        // A zero target calibrates to the lowest strength considered
+        Assertions.assertTrue(calibrated.encode(PASSWORD).startsWith("{bcrypt}$2a$10$"));
+    }
+
+    @Test
+    @DisplayName("Calibration stays within the configured bounds")
+    void testCalibrate_Bounds() {
+        Assertions.assertEquals(4, BCryptStrengthCalibrator.calibrate(Duration.ZERO, 4, 6));
+        Assertions.assertEquals(5, BCryptStrengthCalibrator.calibrate(Duration.ofMinutes(1), 4, 5));
+    }
+}
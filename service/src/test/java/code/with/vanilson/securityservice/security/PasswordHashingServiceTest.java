@@ -0,0 +1,93 @@
+package code.with.vanilson.securityservice.security;
+
+import code.with.vanilson.securityservice.exception.PasswordHashingOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService hashingService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hashingService.destroy();
+    }
+
+    @Test
+    @DisplayName("Hashes run on the pool and are timed")
+    void testEncodeAndMatches() {
+        hashingService = new PasswordHashingService(new PrefixEncoder(null), 2, 10, meterRegistry);
+
+        String encoded = hashingService.encode("secret");
+
+        Assertions.assertEquals("hashed:secret", encoded);
+        Assertions.assertTrue(hashingService.matches("secret", encoded));
+        Assertions.assertEquals(1, meterRegistry.get("password.hashing.duration")
+                .tag("operation", "encode").timer().count());
+        Assertions.assertEquals(1, meterRegistry.get("password.hashing.queue.wait")
+                .tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    @DisplayName("Full queue fails fast")
+    void testEncode_QueueFull() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        hashingService = new PasswordHashingService(new PrefixEncoder(started), 1, 1, meterRegistry);
+
+        CompletableFuture.runAsync(() -> hashingService.encode("running"));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> hashingService.encode("queued"));
+        waitForQueuedTask();
+
+        Assertions.assertThrows(PasswordHashingOverloadedException.class, () -> hashingService.encode("rejected"));
+        Assertions.assertEquals(1.0, meterRegistry.get("password.hashing.rejected")
+                .tag("operation", "encode").counter().count());
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Prefixes instead of hashing; blocks every hash until released when {@code started} is given.
+     */
+    private final class PrefixEncoder implements PasswordEncoder {
+        private final CountDownLatch started;
+
+        PrefixEncoder(CountDownLatch started) {
+            this.started = started;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (started != null) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package code.with.vanilson.securityservice.security;
+
+import code.with.vanilson.securityservice.domain.Role;
+import code.with.vanilson.securityservice.repository.RoleRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoleAuthorityRegistryTest {
+
+    private static final Role ADMIN = Role.builder().roleId(1L).name("Admin").code("ADMIN").build();
+    private static final Role USER = Role.builder().roleId(2L).name("User").code("USER").build();
+    private static final Role MANAGER = Role.builder().roleId(3L).name("Manager").code("MANAGER").build();
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private RoleAuthorityRegistry roleAuthorityRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(roleRepository.findAll(any(Sort.class))).thenReturn(List.of(ADMIN, USER));
+        roleAuthorityRegistry = new RoleAuthorityRegistry(roleRepository);
+        roleAuthorityRegistry.refresh();
+    }
+
+    @Test
+    @DisplayName("Same role combination shares one immutable set")
+    void testAuthoritiesFor_Interned() {
+        Set<GrantedAuthority> first = roleAuthorityRegistry.authoritiesFor(Set.of(ADMIN, USER));
+        Set<GrantedAuthority> second = roleAuthorityRegistry.authoritiesFor(List.of(USER, ADMIN));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(Set.of("Admin", "User"), names(first));
+        Assertions.assertThrows(UnsupportedOperationException.class, first::clear);
+        Assertions.assertNotSame(first, roleAuthorityRegistry.authoritiesFor(Set.of(USER)));
+    }
+
+    @Test
+    @DisplayName("Unknown role reloads the registry")
+    void testAuthoritiesFor_UnknownRole() {
+        when(roleRepository.findAll(any(Sort.class))).thenReturn(List.of(ADMIN, USER, MANAGER));
+
+        Set<GrantedAuthority> authorities = roleAuthorityRegistry.authoritiesFor(Set.of(MANAGER));
+
+        Assertions.assertEquals(Set.of("Manager"), names(authorities));
+        verify(roleRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("Renamed role reloads the registry")
+    void testAuthoritiesFor_RenamedRole() {
+        Role renamed = Role.builder().roleId(2L).name("Member").code("USER").build();
+        when(roleRepository.findAll(any(Sort.class))).thenReturn(List.of(ADMIN, renamed));
+
+        Set<GrantedAuthority> authorities = roleAuthorityRegistry.authoritiesFor(Set.of(renamed));
+
+        Assertions.assertEquals(Set.of("Member"), names(authorities));
+    }
+
+    private static Set<String> names(Set<GrantedAuthority> authorities) {
+        return Set.copyOf(authorities.stream().map(GrantedAuthority::getAuthority).toList());
+    }
+}
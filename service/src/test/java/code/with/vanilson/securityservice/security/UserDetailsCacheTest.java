@@ -0,0 +1,110 @@
+package code.with.vanilson.securityservice.security;
+
+import code.with.vanilson.securityservice.domain.Account;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class UserDetailsCacheTest {
+
+    private static final String USERNAME = "testuser";
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDetailsCache userDetailsCache;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsCache = new UserDetailsCache(true, Duration.ofMinutes(1), 100, meterRegistry);
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            Account account = Account.builder()
+                    .username(username)
+                    .password("$2a$10$encodedpassword")
+                    .enabled(true)
+                    .build();
+            return new AccountUserDetails(account, Set.of(new SimpleGrantedAuthority("User")));
+        };
+    }
+
+    @Test
+    @DisplayName("Second lookup is answered from the cache")
+    void testGet_Hit() {
+        UserDetails first = userDetailsCache.get(USERNAME, loader);
+        UserDetails second = userDetailsCache.get(USERNAME, loader);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Evicted user is loaded again")
+    void testEvict() {
+        userDetailsCache.get(USERNAME, loader);
+
+        userDetailsCache.evict(USERNAME);
+        userDetailsCache.get(USERNAME, loader);
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Eviction inside a transaction waits for the commit")
+    void testEvict_AfterCommit() {
+        userDetailsCache.get(USERNAME, loader);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userDetailsCache.evict(USERNAME);
+
+            // A login before the commit still sees the committed user
+            userDetailsCache.get(USERNAME, loader);
+            Assertions.assertEquals(1, loads.get());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        userDetailsCache.get(USERNAME, loader);
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Failed lookups are not cached")
+    void testGet_NotFound() {
+        Function<String, UserDetails> failingLoader = username -> {
+            loads.incrementAndGet();
+            throw new UsernameNotFoundException(username);
+        };
+
+        Assertions.assertThrows(UsernameNotFoundException.class, () -> userDetailsCache.get(USERNAME, failingLoader));
+        Assertions.assertThrows(UsernameNotFoundException.class, () -> userDetailsCache.get(USERNAME, failingLoader));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Cached user details are immutable")
+    void testCachedUserDetails_Immutable() {
+        UserDetails userDetails = userDetailsCache.get(USERNAME, loader);
+
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> ((Set<?>) userDetails.getAuthorities()).clear());
+        Assertions.assertFalse(userDetails instanceof org.springframework.security.core.CredentialsContainer);
+    }
+}
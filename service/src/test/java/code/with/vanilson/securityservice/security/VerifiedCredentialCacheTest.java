@@ -0,0 +1,70 @@
+package code.with.vanilson.securityservice.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class VerifiedCredentialCacheTest {
+
+    private static final String USERNAME = "testuser";
+    private static final String PASSWORD = "testpassword";
+    private static final String ENCODED_PASSWORD = "$2a$10$encodedpassword";
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedCredentialCache credentialCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        credentialCache = new VerifiedCredentialCache(true, Duration.ofMinutes(5), 100, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Verified credential is answered from the cache")
+    void testIsVerified_Hit() {
+        credentialCache.put(USERNAME, PASSWORD, ENCODED_PASSWORD);
+
+        Assertions.assertTrue(credentialCache.isVerified(USERNAME, PASSWORD, ENCODED_PASSWORD));
+        Assertions.assertEquals(1.0, meterRegistry.get("auth.credential.cache").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("Wrong password is never answered from the cache")
+    void testIsVerified_WrongPassword() {
+        credentialCache.put(USERNAME, PASSWORD, ENCODED_PASSWORD);
+
+        Assertions.assertFalse(credentialCache.isVerified(USERNAME, "otherpassword", ENCODED_PASSWORD));
+        Assertions.assertEquals(1.0, meterRegistry.get("auth.credential.cache").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("Changed stored hash invalidates the cached credential")
+    void testIsVerified_StoredHashChanged() {
+        credentialCache.put(USERNAME, PASSWORD, ENCODED_PASSWORD);
+
+        Assertions.assertFalse(credentialCache.isVerified(USERNAME, PASSWORD, "$2a$10$otherencodedpassword"));
+    }
+
+    @Test
+    @DisplayName("Invalidated username is no longer answered from the cache")
+    void testInvalidate() {
+        credentialCache.put(USERNAME, PASSWORD, ENCODED_PASSWORD);
+
+        credentialCache.invalidate(USERNAME);
+
+        Assertions.assertFalse(credentialCache.isVerified(USERNAME, PASSWORD, ENCODED_PASSWORD));
+    }
+
+    @Test
+    @DisplayName("Disabled cache never answers")
+    void testIsVerified_Disabled() {
+        credentialCache = new VerifiedCredentialCache(false, Duration.ofMinutes(5), 100, meterRegistry);
+        credentialCache.put(USERNAME, PASSWORD, ENCODED_PASSWORD);
+
+        Assertions.assertFalse(credentialCache.isVerified(USERNAME, PASSWORD, ENCODED_PASSWORD));
+    }
+}
@@ -6,6 +6,8 @@ import code.with.vanilson.securityservice.exception.AccountNotFoundException;
 import code.with.vanilson.securityservice.exception.UsernameAlreadyExistsException;
 import code.with.vanilson.securityservice.mapper.AccountMapper;
 import code.with.vanilson.securityservice.repository.AccountRepository;
+import code.with.vanilson.securityservice.security.UserDetailsCache;
+import code.with.vanilson.securityservice.security.VerifiedCredentialCache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +34,12 @@ class AccountServiceTest {
     @Mock
     private AccountMapper accountMapper;
 
+    @Mock
+    private VerifiedCredentialCache credentialCache;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -66,7 +74,7 @@ class AccountServiceTest {
         // Mock repository response
         Account account = new Account();
         Long accountId = 1L;
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(accountRepository.findWithRolesById(accountId)).thenReturn(Optional.of(account));
 
         // Mock mapper response
         AccountDTO accountDTO = new AccountDTO();
@@ -80,7 +88,7 @@ class AccountServiceTest {
         Assertions.assertEquals(accountDTO, result.get());
 
         // Verify interactions
-        verify(accountRepository).findById(accountId);
+        verify(accountRepository).findWithRolesById(accountId);
         verify(accountMapper).toAccountDTO(account);
 
 
@@ -236,6 +244,8 @@ class AccountServiceTest {
         // Verify interactions
         verify(accountRepository).findById(accountId);
         verify(accountRepository).delete(existingAccount);
+        verify(credentialCache).invalidate(existingAccount.getUsername());
+        verify(userDetailsCache).evict(existingAccount.getUsername());
     }
 
     @Test
@@ -0,0 +1,297 @@
+package code.with.vanilson.securityservice.service;
+
+import code.with.vanilson.securityservice.common.bulkimport.BulkImportReport;
+import code.with.vanilson.securityservice.common.bulkimport.BulkImportResult;
+import code.with.vanilson.securityservice.common.bulkimport.InvalidImportPayloadException;
+import code.with.vanilson.securityservice.domain.Employee;
+import code.with.vanilson.securityservice.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.mapper.EmployeeMapper;
+import code.with.vanilson.securityservice.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeBulkImportServiceTest {
+
+    private EmployeeBulkImportService employeeBulkImportService;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private EmployeeMapper employeeMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicInteger nextEmployeeId = new AtomicInteger(1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        employeeBulkImportService = new EmployeeBulkImportService(employeeRepository, employeeMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionTemplate, entityManager,
+                objectMapper);
+
+        // Mock transaction and repository responses (nothing exists yet, inserts get ascending IDs)
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(employeeRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+        when(employeeRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(employeeRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Employee> employees = new ArrayList<>();
+            invocation.<Iterable<Employee>>getArgument(0).forEach(employees::add);
+            employees.forEach(employee -> employee.setEmployeeId(nextEmployeeId.getAndIncrement()));
+            return employees;
+        });
+    }
+
+    @Test
+    @DisplayName("Import CSV - Columns In Any Order")
+    void testImportCsv_ReorderedHeader() throws IOException {
+        // Call the service method
+        BulkImportReport report = employeeBulkImportService.importCsv(body("""
+                email,USERNAME,lastName,firstName
+                john.doe@example.com,johndoe,Doe,John
+                """));
+
+        // Assertions
+        Assertions.assertEquals(1, report.getImported());
+        Employee saved = savedEmployees().get(0);
+        Assertions.assertEquals("John", saved.getFirstName());
+        Assertions.assertEquals("Doe", saved.getLastName());
+        Assertions.assertEquals("johndoe", saved.getUsername());
+        Assertions.assertEquals("john.doe@example.com", saved.getEmail());
+    }
+
+    @Test
+    @DisplayName("Import CSV - Missing Column In Header")
+    void testImportCsv_InvalidHeader() {
+        // Call the service method and verify that it throws the expected exception
+        Assertions.assertThrows(InvalidImportPayloadException.class, () -> employeeBulkImportService.importCsv(body("""
+                firstName,lastName,username
+                John,Doe,johndoe
+                """)));
+
+        // Verify that nothing was saved
+        verify(employeeRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Import CSV - Quoted Values Are Trimmed And Unquoted")
+    void testImportCsv_QuotedValues() throws IOException {
+        // Call the service method
+        BulkImportReport report = employeeBulkImportService.importCsv(body("""
+                firstName,lastName,username,email
+                "John" , "Doe",  johndoe ,"john.doe@example.com"
+                """));
+
+        // Assertions
+        Assertions.assertEquals(1, report.getImported());
+        Employee saved = savedEmployees().get(0);
+        Assertions.assertEquals("John", saved.getFirstName());
+        Assertions.assertEquals("Doe", saved.getLastName());
+        Assertions.assertEquals("johndoe", saved.getUsername());
+        Assertions.assertEquals("john.doe@example.com", saved.getEmail());
+    }
+
+    @Test
+    @DisplayName("Import CSV - Wrong Column Count Fails The Row Only")
+    void testImportCsv_WrongColumnCount() throws IOException {
+        // Call the service method
+        BulkImportReport report = employeeBulkImportService.importCsv(body("""
+                firstName,lastName,username,email
+                John,Doe,johndoe
+                Jane,Doe,janedoe,jane.doe@example.com
+                """));
+
+        // Assertions
+        Assertions.assertEquals(1, report.getImported());
+        Assertions.assertEquals(1, report.getFailed());
+        Assertions.assertEquals("Expected 4 columns but found 3", report.getResults().get(0).getError());
+    }
+
+    @Test
+    @DisplayName("Import JSON - Duplicates Within A Chunk")
+    void testImportJson_DuplicatesInChunk() throws IOException {
+        // Call the service method
+        BulkImportReport report = employeeBulkImportService.importJson(json(List.of(
+                employee("johndoe", "john.doe@example.com"),
+                employee("johndoe", "other@example.com"),
+                employee("janedoe", "john.doe@example.com"))));
+
+        // Assertions
+        Assertions.assertEquals(1, report.getImported());
+        Assertions.assertEquals(BulkImportResult.Status.CREATED, report.getResults().get(0).getStatus());
+        Assertions.assertEquals("Username already exists: johndoe", report.getResults().get(1).getError());
+        Assertions.assertEquals("Email already exists: john.doe@example.com", report.getResults().get(2).getError());
+        Assertions.assertEquals(1, savedEmployees().size());
+    }
+
+    @Test
+    @DisplayName("Import JSON - Rows That Already Exist Are Rejected")
+    void testImportJson_AlreadyExists() throws IOException {
+        // Mock repository responses (username and email taken by earlier employees)
+        when(employeeRepository.findExistingUsernames(anyCollection())).thenReturn(List.of("johndoe"));
+        when(employeeRepository.findExistingEmails(anyCollection())).thenReturn(List.of("jane.doe@example.com"));
+
+        // Call the service method
+        BulkImportReport report = employeeBulkImportService.importJson(json(List.of(
+                employee("johndoe", "john.doe@example.com"),
+                employee("janedoe", "jane.doe@example.com"))));
+
+        // Assertions
+        Assertions.assertEquals(0, report.getImported());
+        Assertions.assertEquals("Username already exists: johndoe", report.getResults().get(0).getError());
+        Assertions.assertEquals("Email already exists: jane.doe@example.com", report.getResults().get(1).getError());
+
+        // Verify that nothing was saved
+        verify(employeeRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Import JSON - Unique Constraint Violation Fails Only The Conflicting Row")
+    void testImportJson_UniqueConstraintViolated() throws IOException {
+        // Mock repository responses (a concurrent insert took employee7 between the check and the insert)
+        doAnswer(invocation -> {
+            List<Employee> employees = new ArrayList<>();
+            invocation.<Iterable<Employee>>getArgument(0).forEach(employees::add);
+            if (employees.stream().anyMatch(employee -> employee.getUsername().equals("employee7"))) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+            }
+            employees.forEach(employee -> employee.setEmployeeId(nextEmployeeId.getAndIncrement()));
+            return employees;
+        }).when(employeeRepository).saveAll(any());
+
+        // Call the service method
+        BulkImportReport report = employeeBulkImportService.importJson(json(employees(
+                EmployeeBulkImportService.CHUNK_SIZE + 1)));
+
+        // Assertions
+        Assertions.assertEquals(1, report.getFailed());
+        Assertions.assertEquals(EmployeeBulkImportService.CHUNK_SIZE, report.getImported());
+        BulkImportResult conflicting = report.getResults().get(6);
+        Assertions.assertEquals(7, conflicting.getRow());
+        Assertions.assertEquals("Username or email already exists", conflicting.getError());
+        Assertions.assertEquals(BulkImportResult.Status.CREATED, report.getResults().get(5).getStatus());
+        Assertions.assertEquals(BulkImportResult.Status.CREATED, report.getResults().get(7).getStatus());
+    }
+
+    @Test
+    @DisplayName("Import JSON - Badly Typed Element Fails Its Row Only")
+    void testImportJson_BadlyTypedElement() throws IOException {
+        // Call the service method
+        BulkImportReport report = employeeBulkImportService.importJson(body("""
+                [{"firstName":"John","lastName":"Doe","username":"johndoe","email":"john.doe@example.com"},
+                 {"firstName":"Jane","lastName":"Doe","username":"janedoe","email":"jane.doe@example.com",
+                  "employeeId":{"nested":[1,2]}},
+                 "not an employee",
+                 {"firstName":"Jim","lastName":"Doe","username":"jimdoe","email":"jim.doe@example.com"}]"""));
+
+        // Assertions
+        Assertions.assertEquals(4, report.getTotal());
+        Assertions.assertEquals(2, report.getImported());
+        Assertions.assertEquals("Invalid value for employeeId", report.getResults().get(1).getError());
+        Assertions.assertEquals("Row is not an employee object", report.getResults().get(2).getError());
+        Assertions.assertEquals(BulkImportResult.Status.CREATED, report.getResults().get(3).getStatus());
+        Assertions.assertEquals(List.of("johndoe", "jimdoe"),
+                savedEmployees().stream().map(Employee::getUsername).toList());
+    }
+
+    @Test
+    @DisplayName("Import JSON - Malformed Body After Committed Chunks Returns The Partial Report")
+    void testImportJson_MalformedMidStream() throws IOException {
+        String rows = objectMapper.writeValueAsString(employees(EmployeeBulkImportService.CHUNK_SIZE + 1));
+        String body = rows.substring(0, rows.length() - 1) + ",{\"firstName\" \"John\"}]";
+
+        // Call the service method
+        BulkImportReport report = employeeBulkImportService.importJson(body(body));
+
+        // Assertions
+        Assertions.assertEquals(EmployeeBulkImportService.CHUNK_SIZE + 2, report.getTotal());
+        Assertions.assertEquals(EmployeeBulkImportService.CHUNK_SIZE + 1, report.getImported());
+        BulkImportResult last = report.getResults().get(report.getResults().size() - 1);
+        Assertions.assertEquals(EmployeeBulkImportService.CHUNK_SIZE + 2, last.getRow());
+        Assertions.assertEquals(BulkImportResult.Status.FAILED, last.getStatus());
+        Assertions.assertTrue(last.getError().startsWith("Malformed JSON at line 1"));
+
+        // Verify that both the full chunk and the rows read before the error were saved
+        verify(employeeRepository, times(2)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Import JSON - Malformed Body Before Any Row")
+    void testImportJson_MalformedFirstRow() {
+        // Call the service method and verify that it throws the expected exception
+        Assertions.assertThrows(InvalidImportPayloadException.class,
+                () -> employeeBulkImportService.importJson(body("[{\"firstName\" \"John\"}]")));
+
+        // Verify that nothing was saved
+        verify(employeeRepository, never()).saveAll(any());
+    }
+
+    private List<Employee> savedEmployees() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<Employee>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(employeeRepository).saveAll(captor.capture());
+        List<Employee> saved = new ArrayList<>();
+        captor.getValue().forEach(saved::add);
+        return saved;
+    }
+
+    private InputStream json(List<EmployeeDTO> employees) throws IOException {
+        return body(objectMapper.writeValueAsString(employees));
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<EmployeeDTO> employees(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> employee("employee" + i, "employee" + i + "@example.com"))
+                .toList();
+    }
+
+    private static EmployeeDTO employee(String username, String email) {
+        var employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("John");
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setUsername(username);
+        employeeDTO.setEmail(email);
+        return employeeDTO;
+    }
+}
@@ -0,0 +1,176 @@
+package code.with.vanilson.securityservice.service;
+
+import code.with.vanilson.securityservice.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exports more employees than one cursor fetch against an embedded PostgreSQL migrated with the real Flyway
+ * scripts, and checks the NDJSON body line by line against the table.
+ */
+@SpringBootTest(properties = {
+        "security.jwt.secret=ZW1wbG95ZWUtZXhwb3J0LWl0LXNpZ25pbmcta2V5LTMyLWJ5dGVzLWxvbmc=",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+class EmployeeExportIT {
+
+    // Three cursor fetches: two full ones and a partial one
+    private static final int SEEDED_EMPLOYEES = 2 * EmployeeRepository.STREAM_FETCH_SIZE + 201;
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EmployeeExportService employeeExportService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        POSTGRES.close();
+    }
+
+    @BeforeEach
+    void seed() {
+        if (jdbcTemplate.queryForObject("SELECT count(*) FROM employees WHERE username LIKE 'export-%'",
+                Integer.class) == 0) {
+            jdbcTemplate.update("INSERT INTO employees (employee_id, firstname, lastname, username, email) "
+                    + "SELECT nextval('employee_id_seq'), 'Export', 'Row ' || n, 'export-' || n, "
+                    + "'export-' || n || '@example.com' FROM generate_series(1, ?) AS n", SEEDED_EMPLOYEES);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/employees/export streams every employee as one JSON object per line")
+    void testExportEmployees() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        Assertions.assertTrue(body.endsWith("\n"), "Every line must end with a newline");
+        List<EmployeeDTO> exported = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            exported.add(objectMapper.readValue(line, EmployeeDTO.class));
+        }
+
+        List<EmployeeDTO> expected = jdbcTemplate.query("SELECT employee_id, firstname, lastname, username, email "
+                + "FROM employees ORDER BY employee_id", (row, rowNumber) -> new EmployeeDTO(row.getInt(1),
+                row.getString(2), row.getString(3), row.getString(4), row.getString(5)));
+        Assertions.assertTrue(expected.size() > SEEDED_EMPLOYEES);
+        Assertions.assertEquals(expected, exported);
+    }
+
+    @Test
+    @DisplayName("Export flushes once per cursor fetch and keeps no employee in the persistence context")
+    void testExportEmployees_FlushesAndDetaches() {
+        var flushes = new AtomicInteger();
+        OutputStream output = new FilterOutputStream(OutputStream.nullOutputStream()) {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+
+        // Joined by the export, so its persistence context can be inspected afterwards
+        long exported = transactionTemplate.execute(status -> {
+            long count = export(output);
+            Assertions.assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+            return count;
+        });
+
+        Assertions.assertEquals(jdbcTemplate.queryForObject("SELECT count(*) FROM employees", Long.class), exported);
+        Assertions.assertEquals(exported / EmployeeRepository.STREAM_FETCH_SIZE + 1, flushes.get());
+    }
+
+    @Test
+    @DisplayName("Export of an empty table writes nothing")
+    void testExportEmployees_EmptyTable() {
+        var output = new ByteArrayOutputStream();
+
+        // Rolled back, so the other tests keep their rows
+        long exported = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.update("DELETE FROM employees");
+            return export(output);
+        });
+
+        Assertions.assertEquals(0, exported);
+        Assertions.assertEquals(0, output.size());
+    }
+
+    private long export(OutputStream output) {
+        try {
+            return employeeExportService.exportEmployees(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start embedded PostgreSQL", e);
+        }
+    }
+}
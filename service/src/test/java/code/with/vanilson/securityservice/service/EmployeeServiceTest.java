@@ -0,0 +1,112 @@
+package code.with.vanilson.securityservice.service;
+
+import code.with.vanilson.securityservice.common.pagination.InvalidPageRequestException;
+import code.with.vanilson.securityservice.common.pagination.KeysetPageRequest;
+import code.with.vanilson.securityservice.domain.Employee;
+import code.with.vanilson.securityservice.dto.EmployeeDTO;
+import code.with.vanilson.securityservice.exception.EmployeeWithEmailAlreadyExistException;
+import code.with.vanilson.securityservice.mapper.EmployeeMapper;
+import code.with.vanilson.securityservice.repository.EmployeeRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeServiceTest {
+    @InjectMocks
+    private EmployeeService employeeService;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Spy
+    private EmployeeMapper employeeMapper;
+
+    private EmployeeDTO employeeDTO;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("John");
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setUsername("johndoe");
+        employeeDTO.setEmail("john.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Create Employee - Success")
+    void testCreateEmployee_Success() {
+        // Mock repository responses
+        when(employeeRepository.existsByUsernameOrEmail("johndoe", "john.doe@example.com")).thenReturn(false);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            employee.setEmployeeId(42);
+            return employee;
+        });
+
+        // Call the service method
+        EmployeeDTO result = employeeService.createEmployee(employeeDTO);
+
+        // Assertions
+        Assertions.assertEquals(42, result.getEmployeeId());
+        Assertions.assertEquals("johndoe", result.getUsername());
+
+        // The uniqueness check must never scan the table
+        verify(employeeRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Create Employee - Username Or Email Already Exists")
+    void testCreateEmployee_AlreadyExists() {
+        // Mock repository response (username or email taken)
+        when(employeeRepository.existsByUsernameOrEmail("johndoe", "john.doe@example.com")).thenReturn(true);
+
+        // Call the service method and verify that it throws the expected exception
+        Assertions.assertThrows(EmployeeWithEmailAlreadyExistException.class,
+                () -> employeeService.createEmployee(employeeDTO));
+
+        // Verify that nothing was saved
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
+    }
+
+    @Test
+    @DisplayName("Create Employee - Concurrent Insert Violates Unique Constraint")
+    void testCreateEmployee_UniqueConstraintViolated() {
+        // Mock repository responses (check passes, insert loses the race)
+        when(employeeRepository.existsByUsernameOrEmail("johndoe", "john.doe@example.com")).thenReturn(false);
+        when(employeeRepository.saveAndFlush(any(Employee.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        // Call the service method and verify that it throws the expected exception
+        Assertions.assertThrows(EmployeeWithEmailAlreadyExistException.class,
+                () -> employeeService.createEmployee(employeeDTO));
+    }
+
+    @Test
+    @DisplayName("Get Employees Page - Cursor Key Outside The ID Range")
+    void testGetEmployeesPage_CursorOutOfRange() {
+        // "asc:2147483648", one past the largest employee ID
+        KeysetPageRequest pageRequest = KeysetPageRequest.of("YXNjOjIxNDc0ODM2NDg", 20, null);
+
+        // Call the service method and verify that it throws the expected exception
+        Assertions.assertThrows(InvalidPageRequestException.class,
+                () -> employeeService.getEmployeesPage(pageRequest));
+
+        // Verify that nothing was queried
+        verify(employeeRepository, never()).findByEmployeeIdGreaterThan(anyInt(), any(Pageable.class));
+    }
+}
@@ -1,25 +0,0 @@
-package code.with.vanilson.securityservice.domain;
-
-import lombok.*;
-
-import jakarta.persistence.*;
-
-@Entity
-@Table(name = "roles")
-@NoArgsConstructor
-@AllArgsConstructor
-@EqualsAndHashCode
-@Builder
-@ToString
-@Getter
-@Setter
-public class Role {
-
-    @Id
-    @GeneratedValue
-    @Column(name = "role_id")
-    private Long roleId;
-    private String name;
-    private String code;
-
-}
@@ -1,39 +0,0 @@
-package code.with.vanilson.securityservice.security;
-
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
-import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.web.SecurityFilterChain;
-
-import static org.springframework.http.HttpMethod.POST;
-import static org.springframework.security.config.Customizer.withDefaults;
-import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
-
-@Configuration
-@EnableWebSecurity
-@RequiredArgsConstructor
-@EnableMethodSecurity
-public class WebSecurityConfiguration {
-    private final AccountAuthenticationProvider authenticationProvider;
-
-    @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        http.csrf().disable()
-                .authorizeHttpRequests()
-                .requestMatchers(POST, "/api/accounts/**")
-                .permitAll()
-                .requestMatchers("/**")
-                .authenticated()
-                .anyRequest()
-                .hasAnyRole("USER", "ADMIN","MANAGER","ROLE_USER","GUEST")
-                .and()
-                .authenticationProvider(authenticationProvider)
-                .httpBasic(withDefaults())
-                .sessionManagement()
-                .sessionCreationPolicy(STATELESS);
-        return http.build();
-    }
-}